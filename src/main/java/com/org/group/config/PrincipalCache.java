@@ -0,0 +1,70 @@
+package com.org.group.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Short-lived cache of authenticated principals used by the JWT filter.
+// Holds credential-free snapshots only; login still goes through CustomUserDetailsService directly.
+@Component
+public class PrincipalCache {
+
+    private record Entry(UserDetails principal, long expiresAt) {}
+
+    private final UserDetailsService userDetailsService;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public PrincipalCache(UserDetailsService userDetailsService,
+                          @Value("${security.principal-cache.ttl-ms:60000}") long ttlMillis,
+                          @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.userDetailsService = userDetailsService;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    public UserDetails get(String username) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(username);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.principal();
+        }
+
+        UserDetails loaded = userDetailsService.loadUserByUsername(username);
+        UserDetails snapshot = User.withUsername(loaded.getUsername())
+                .password("")
+                .authorities(loaded.getAuthorities())
+                .disabled(!loaded.isEnabled())
+                .accountLocked(!loaded.isAccountNonLocked())
+                .accountExpired(!loaded.isAccountNonExpired())
+                .credentialsExpired(!loaded.isCredentialsNonExpired())
+                .build();
+        if (entries.size() >= maxSize) {
+            evictOldest();
+        }
+        entries.put(username, new Entry(snapshot, now + ttlMillis));
+        return snapshot;
+    }
+
+    // Every entry lives for the same TTL, so the one expiring first is the oldest (and any expired one goes first);
+    // dropping just that one keeps the other active users cached
+    private void evictOldest() {
+        entries.entrySet().stream()
+                .min(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    // Call whenever credentials, roles or account state change for this login
+    public void evict(String username) {
+        if (username != null) {
+            entries.remove(username);
+        }
+    }
+}
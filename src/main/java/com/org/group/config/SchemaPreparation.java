@@ -0,0 +1,96 @@
+package com.org.group.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// One-off fixes to existing tables that ddl-auto=update cannot make by itself: it never relaxes a column
+// and cannot add a unique constraint over duplicate rows. Runs before the EntityManagerFactory is built, so
+// the schema update sees the prepared tables. Every step is idempotent and skipped while its table does not exist.
+@Slf4j
+@Component(SchemaPreparation.BEAN_NAME)
+public class SchemaPreparation implements InitializingBean {
+
+    static final String BEAN_NAME = "schemaPreparation";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaPreparation(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // outbox bodies are cleared once a message is SENT or FAILED
+        step("email_outbox.body nullable", () -> {
+            if (tableExists("email_outbox")) {
+                jdbcTemplate.execute("alter table email_outbox alter column body drop not null");
+            }
+        });
+        // the old check-then-insert bookmarking could store a pair twice; keep the earliest one
+        step("bookmark dedupe", () -> {
+            if (tableExists("bookmark") && !constraintExists("uk_bookmark_user_project")) {
+                int removed = jdbcTemplate.update("delete from bookmark b using bookmark d " +
+                        "where b.user_id = d.user_id and b.project_id = d.project_id " +
+                        "and (b.bookmarked_at > d.bookmarked_at " +
+                        "or (b.bookmarked_at = d.bookmarked_at and b.bookmark_id > d.bookmark_id))");
+                if (removed > 0) {
+                    log.info("Removed {} duplicate bookmark(s) before adding uk_bookmark_user_project", removed);
+                }
+            }
+        });
+        // same for assignments, which were also added with check-then-insert; keep the first row
+        step("assignment dedupe", () -> {
+            if (tableExists("assigment_analyser") && !constraintExists("uk_assignment_project_analyzer")) {
+                int removed = jdbcTemplate.update("delete from assigment_analyser a using assigment_analyser d " +
+                        "where a.project_id = d.project_id and a.analyzer_id = d.analyzer_id and a.id > d.id");
+                if (removed > 0) {
+                    log.info("Removed {} duplicate assignment(s) before adding uk_assignment_project_analyzer", removed);
+                }
+            }
+        });
+        // double-clicked join requests; keep the ACCEPTED one (status is stored as its ordinal, 1), then the
+        // earliest - the table has no timestamp, so the physical row order stands in for insertion order
+        step("joined_project dedupe", () -> {
+            if (tableExists("joined_project") && !constraintExists("uk_joined_project_user_project")) {
+                int removed = jdbcTemplate.update("delete from joined_project where ctid in (" +
+                        "select ctid from (select ctid, row_number() over (partition by user_id, community_project_id " +
+                        "order by (status = 1) desc, ctid) as rn from joined_project) ranked where rn > 1)");
+                if (removed > 0) {
+                    log.info("Removed {} duplicate join request(s) before adding uk_joined_project_user_project", removed);
+                }
+            }
+        });
+    }
+
+    // A failed step is logged and the rest still run; the schema update then reports what it could not apply
+    private void step(String name, Runnable step) {
+        try {
+            step.run();
+        } catch (DataAccessException e) {
+            log.warn("Schema preparation step '{}' failed", name, e);
+        }
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, table));
+    }
+
+    private boolean constraintExists(String constraint) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from pg_constraint where conname = ?)", Boolean.class, constraint));
+    }
+
+    // makes the EntityManagerFactory, and with it the schema update, wait for the steps above
+    @Component
+    static class JpaDependsOnSchemaPreparation extends EntityManagerFactoryDependsOnPostProcessor {
+        JpaDependsOnSchemaPreparation() {
+            super(BEAN_NAME);
+        }
+    }
+}
@@ -44,6 +44,7 @@ public class SecurityConfiguration {
                                 "/admin/login/admin",
                                 "/api/ordered-projects",
                                 "/api/blogs/published",
+                                "/api/blogs/published/**",
                                 "/api/blogs/{blogsId}",
                                 "/api/files/**",// Allow all /auth endpoints
                                 "/public/**",
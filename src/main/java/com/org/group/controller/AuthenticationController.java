@@ -6,7 +6,9 @@ import com.org.group.responses.RegisterResponse;
 import com.org.group.dto.userAuth.RegisterUserDto;
 import com.org.group.dto.userAuth.ResetPasswordDto;
 import com.org.group.model.Users;
+import com.org.group.responses.CursorPageResponse;
 import com.org.group.responses.LoginResponse;
+import com.org.group.responses.PageResponse;
 import com.org.group.responses.project.HomeProjectResponse;
 import com.org.group.services.Admin.AdminServices;
 import com.org.group.services.AuthenticationServices;
@@ -26,10 +28,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import com.org.group.subscription.SubscriptionPlan;
 import com.org.group.dto.userResponse.UserRatingResponse;
-import com.org.group.model.UserRatting;
 import com.org.group.services.UserService;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Tag(name = "Authentication", description = "Authentication management APIs")
@@ -177,9 +179,19 @@ public class AuthenticationController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+    @Operation(
+            summary = "Get home projects feed",
+            description = "Retrieve non-declined projects newest first; pass nextCursor from the previous page to continue"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of projects retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
     @GetMapping("/launch/project")
-    public ResponseEntity<List<HomeProjectResponse>> getHomeProjects() {
-        List<HomeProjectResponse> homeProjects = launchProjectService.getHomeProjects();
+    public ResponseEntity<CursorPageResponse<HomeProjectResponse>> getHomeProjects(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponse<HomeProjectResponse> homeProjects = launchProjectService.getHomeProjects(cursor, size);
         return ResponseEntity.ok(homeProjects);
     }
     @GetMapping("/launch/project/{id}")
@@ -194,16 +206,7 @@ public class AuthenticationController {
     )
     @GetMapping("/ratings")
     public ResponseEntity<List<UserRatingResponse>> getApprovedRatings() {
-        List<UserRatting> approvedRatings = userService.getApprovedRatings();
-        List<UserRatingResponse> response = approvedRatings.stream()
-                .map(rating -> UserRatingResponse.builder()
-                        .userName(rating.getUsers().getName())
-                        .userPhoto(rating.getUsers().getPhotoUrl())
-                        .message(rating.getMessage())
-                        .starNumber(rating.getStarNumber())
-                        .build())
-                .toList();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(userService.getApprovedRatings());
     }
 
     @Operation(summary = "Get all community projects", description = "Retrieves a list of all approved community projects in the system")
@@ -213,6 +216,21 @@ public class AuthenticationController {
         return ResponseEntity.ok(projects);
     }
 
+    @Operation(summary = "Get approved community projects (paginated)", description = "Pages through approved community projects, newest first, optionally limited to one category")
+    @GetMapping("/community/page")
+    public ResponseEntity<PageResponse<CommunityResponseDto>> getApprovedProjectsPage(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(communityProjectService.getApprovedProjectsPage(category, page, size));
+    }
+
+    @Operation(summary = "Get community categories", description = "Number of approved community projects per category")
+    @GetMapping("/community/categories")
+    public ResponseEntity<Map<String, Long>> getApprovedCategoryFacets() {
+        return ResponseEntity.ok(communityProjectService.getApprovedCategoryFacets());
+    }
+
 
 
 }
\ No newline at end of file
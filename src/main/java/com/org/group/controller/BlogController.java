@@ -1,16 +1,23 @@
 package com.org.group.controller;
 
 import com.org.group.dto.blog.BlogResponseDto;
+import com.org.group.dto.blog.BlogSummaryDto;
 import com.org.group.dto.blog.CreateBlogDto;
 import com.org.group.dto.blog.UpdateBlogDto;
 import com.org.group.model.BlogStatus;
+import com.org.group.responses.CursorPageResponse;
+import com.org.group.services.BlogFeedCache;
 import com.org.group.services.BlogService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -70,14 +77,15 @@ public class BlogController {
             description = "Retrieve a specific blog by its ID"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Blog retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Blog retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BlogResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "Blog unchanged since the ETag / date sent by the client"),
             @ApiResponse(responseCode = "404", description = "Blog not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{blogId}")
-    public ResponseEntity<BlogResponseDto> getBlogById(@PathVariable UUID blogId) {
-        BlogResponseDto blog = blogService.getBlogById(blogId);
-        return ResponseEntity.ok(blog);
+    public ResponseEntity<byte[]> getBlogById(@PathVariable UUID blogId) {
+        return cachedJson(blogService.getBlogJson(blogId));
     }
     
     @Operation(
@@ -85,13 +93,56 @@ public class BlogController {
             description = "Retrieve only published blogs ordered by publication date"
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Published blogs retrieved successfully"),
+            @ApiResponse(responseCode = "200", description = "Published blogs retrieved successfully",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BlogResponseDto.class)))),
+            @ApiResponse(responseCode = "304", description = "Feed unchanged since the ETag / date sent by the client"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/published")
-    public ResponseEntity<List<BlogResponseDto>> getPublishedBlogs() {
-        List<BlogResponseDto> blogs = blogService.getPublishedBlogs();
-        return ResponseEntity.ok(blogs);
+    public ResponseEntity<byte[]> getPublishedBlogs() {
+        return cachedJson(blogService.getPublishedFeed());
+    }
+
+    @Operation(
+            summary = "Get published blog summaries (paginated)",
+            description = "Title, excerpt, photo and publication date of published blogs, newest first; pass nextCursor from the previous page to continue"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of blog summaries retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/published/summaries")
+    public ResponseEntity<CursorPageResponse<BlogSummaryDto>> getPublishedSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(blogService.getPublishedSummaries(cursor, size));
+    }
+
+    @Operation(
+            summary = "Get published blog",
+            description = "Full body of a single published blog"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Blog retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BlogResponseDto.class))),
+            @ApiResponse(responseCode = "304", description = "Blog unchanged since the ETag / date sent by the client"),
+            @ApiResponse(responseCode = "404", description = "Blog not found or not published"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/published/{blogId}")
+    public ResponseEntity<byte[]> getPublishedBlog(@PathVariable UUID blogId) {
+        return cachedJson(blogService.getPublishedBlogJson(blogId));
+    }
+
+    // Spring answers If-None-Match / If-Modified-Since with a 304 from these headers
+    private ResponseEntity<byte[]> cachedJson(BlogFeedCache.Entry entry) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(entry.etag())
+                .lastModified(entry.lastModified())
+                .body(entry.body());
     }
 
     
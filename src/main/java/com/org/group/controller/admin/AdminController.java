@@ -5,18 +5,23 @@ import com.org.group.dto.LaunchProject.AnalyticStatus;
 import com.org.group.dto.OrderedProject.ProjectDeclineDto;
 import com.org.group.dto.admin.AnalyzerDto;
 import com.org.group.dto.admin.AnalyzerInfoDto;
+import com.org.group.dto.admin.AnalyzerLoadRow;
+import com.org.group.dto.admin.BulkAssignmentDto;
 import com.org.group.dto.admin.UpdateAnalyzerDto;
 import com.org.group.dto.analytics.AnalyticsResponseDto;
 import com.org.group.dto.community.CommunityResponseDto;
 import com.org.group.dto.userAuth.LoginUserDto;
 import com.org.group.dto.userAuth.ProfileUpdateDto;
 import com.org.group.dto.userResponse.UserRatingResponse;
+import com.org.group.model.RattingStatus;
 import com.org.group.model.analyzer.Analyzer;
 import com.org.group.responses.LoginResponseAn;
+import com.org.group.responses.PageResponse;
 import com.org.group.responses.Users.ClientResponseDto;
+import com.org.group.responses.project.BulkAssignmentResponse;
 import com.org.group.responses.project.LaunchProjectResponse;
-import com.org.group.responses.project.LaunchedProjectAnalyticsResponse;
 import com.org.group.responses.project.OrderedProjectResponse;
+import com.org.group.responses.project.ProjectSummaryResponse;
 import com.org.group.role.Role;
 import com.org.group.services.Admin.AdminServices;
 import com.org.group.services.Analyzer.AnalyzerServices;
@@ -24,6 +29,7 @@ import com.org.group.services.CommunityProjectService;
 import com.org.group.services.OrderedProject.OrderedProjectServices;
 import com.org.group.services.emailAndJwt.JwtService;
 import com.org.group.services.UserService;
+import com.org.group.subscription.SubscriptionPlan;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -159,12 +165,16 @@ public class AdminController {
     }
 
     @GetMapping("/project/pending/analytics")
-    public ResponseEntity<List<LaunchedProjectAnalyticsResponse>> getAnalyticsMarkedUsComplete() {
-        return ResponseEntity.ok(adminServices.getAllPendingAndHaveAnalytics().getBody());
+    public ResponseEntity<PageResponse<ProjectSummaryResponse>> getAnalyticsMarkedUsComplete(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(adminServices.getAllPendingAndHaveAnalytics(page, size));
     }
     @GetMapping("/pending/project")
-    public ResponseEntity<List<LaunchProjectResponse>> getPendingProjects() {
-        return ResponseEntity.ok(adminServices.getAllPendingProject().getBody());
+    public ResponseEntity<PageResponse<ProjectSummaryResponse>> getPendingProjects(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(adminServices.getAllPendingProject(page, size));
     }
 
     @PatchMapping("/ordered/status/update")
@@ -174,13 +184,33 @@ public class AdminController {
 
     @Operation(
             summary = "Get all ratings",
-            description = "Retrieve all user ratings for admin review"
+            description = "Page through pending user ratings for admin review, oldest first"
     )
     @GetMapping("/ratings")
-    public ResponseEntity<List<UserRatingResponse>> getAllRatings() {
-        List<UserRatingResponse> response = userService.getAllPendingRatings();
+    public ResponseEntity<PageResponse<UserRatingResponse>> getAllRatings(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getPendingRatings(page, size));
+    }
+
+    @Operation(
+            summary = "Approve ratings in bulk",
+            description = "Approve many pending ratings at once; ratings that are no longer pending are skipped"
+    )
+    @PostMapping("/ratings/approve")
+    public ResponseEntity<String> approveRatings(@RequestBody List<Long> ratingIds) {
+        int updated = userService.moderateRatings(ratingIds, RattingStatus.APPROVED);
+        return ResponseEntity.ok(updated + " rating(s) approved successfully");
+    }
 
-        return ResponseEntity.ok(response);
+    @Operation(
+            summary = "Disapprove ratings in bulk",
+            description = "Reject many pending ratings at once; ratings that are no longer pending are skipped"
+    )
+    @PostMapping("/ratings/disapprove")
+    public ResponseEntity<String> disapproveRatings(@RequestBody List<Long> ratingIds) {
+        int updated = userService.moderateRatings(ratingIds, RattingStatus.REJECTED);
+        return ResponseEntity.ok(updated + " rating(s) disapproved successfully");
     }
     
     @Operation(
@@ -275,6 +305,33 @@ public class AdminController {
         }
     }
 
+    @Operation(
+            summary = "Assign projects to analyzers in bulk",
+            description = "Assign every listed project to every listed analyzer in one transaction; pairs that are already assigned, unknown or over the 5-analyzer limit are returned as skipped"
+    )
+    @PostMapping("/assign-projects")
+    public ResponseEntity<BulkAssignmentResponse> assignProjects(@Valid @RequestBody BulkAssignmentDto bulkAssignmentDto) {
+        return ResponseEntity.ok(analyzerServices.assignProjects(bulkAssignmentDto));
+    }
+
+    @Operation(
+            summary = "Auto-assign a pending project",
+            description = "Give a PENDING project the least loaded enabled analyzers, preferring those whose expertise matches its category; returns the analyzers added"
+    )
+    @PostMapping("/auto-assign-project")
+    public ResponseEntity<List<UUID>> autoAssignProject(@RequestParam("projectId") UUID projectId) {
+        return ResponseEntity.ok(analyzerServices.autoAssignProject(projectId));
+    }
+
+    @Operation(
+            summary = "Get analyzer workloads",
+            description = "Enabled analyzers with their number of assigned PENDING projects, least loaded first"
+    )
+    @GetMapping("/analyzers/workload")
+    public ResponseEntity<List<AnalyzerLoadRow>> getAnalyzerWorkloads() {
+        return ResponseEntity.ok(analyzerServices.getAnalyzerWorkloads());
+    }
+
     @Operation(
             summary = "Unassign project from analyzer",
             description = "Remove a project assignment from an analyzer"
@@ -301,6 +358,22 @@ public class AdminController {
 
     }
 
+    @Operation(
+            summary = "Search clients (paginated)",
+            description = "Paginated client directory. search matches a name or email prefix; active and plan filter by account state and current subscription plan. sort is one of name, email, active, subscribed."
+    )
+    @GetMapping("/clients")
+    public ResponseEntity<PageResponse<ClientResponseDto>> getClientPage(
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "active", required = false) Boolean active,
+            @RequestParam(value = "plan", required = false) SubscriptionPlan plan,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", defaultValue = "name") String sort,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(adminServices.getClientPage(search, active, plan, page, size, sort, direction));
+    }
+
     @Operation(
             summary = "update user  by ID",
             description = "Updates user information (name, email, phone, gender, nationality, profession) by ID"
@@ -5,7 +5,8 @@ import com.org.group.dto.admin.AnalyzerDto;
 import com.org.group.dto.admin.AnalyzerInfoDto;
 import com.org.group.dto.analytics.AnalyticsDto;
 import com.org.group.dto.analytics.AnalyticsResponseDto;
-import com.org.group.responses.project.LaunchProjectResponse;
+import com.org.group.responses.PageResponse;
+import com.org.group.responses.project.ProjectSummaryResponse;
 import com.org.group.services.Analyzer.AnalyzerServices;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -28,8 +29,10 @@ public class AnalyzerController {
     private final AnalyzerServices analyzerServices;
 
     @GetMapping("/pending/project")
-    public ResponseEntity<List<LaunchProjectResponse>> getAllPendingProjects() {
-        return  analyzerServices.getAllPendingProject();
+    public ResponseEntity<PageResponse<ProjectSummaryResponse>> getAllPendingProjects(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(analyzerServices.getAllPendingProject(page, size));
     }
     @PostMapping("/project/assigment")
     public ResponseEntity<?> assignProject(@RequestParam("projectId")  UUID projectId,@RequestParam("analyzerId") UUID analyzerId){
@@ -37,8 +40,11 @@ public class AnalyzerController {
         return ResponseEntity.ok().build();
      }
      @GetMapping("/project/assigment")
-    public ResponseEntity<List<LaunchProjectResponse>> getAllAssignedProjects(@RequestParam("analyzerId") UUID analyzerId){
-        return analyzerServices.getAllAssignedProject(analyzerId);
+    public ResponseEntity<PageResponse<ProjectSummaryResponse>> getAllAssignedProjects(
+            @RequestParam("analyzerId") UUID analyzerId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(analyzerServices.getAssignedProjects(analyzerId, page, size));
      }
      @PostMapping("/project/add/analytics")
      public ResponseEntity<?> putAnalyticsOnProject(@Valid @RequestPart("analyticsDetails") AnalyticsDto analyticsDto,@RequestPart(value = "analyticDocument", required = false)MultipartFile analyticsDocument) throws IOException {
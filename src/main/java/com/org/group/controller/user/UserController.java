@@ -14,6 +14,7 @@ import com.org.group.responses.ProfileResponse;
 import com.org.group.services.*;
 import com.org.group.services.UploadFileServices.FileStorageService;
 import com.org.group.services.emailAndJwt.PlanFilterServices;
+import com.org.group.subscription.SubscriptionPlan;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -56,11 +57,12 @@ public class UserController {
         Analyzer analyzer = userService.getAnalyzerById(userId);
         if(user != null) {
             // Get the highest priority plan from active subscriptions
-            String highestPriorityPlan = planFilterServices.getPlanFiltered(user);
+            SubscriptionPlan plan = planFilterServices.getEffectivePlan(user.getId());
+            String highestPriorityPlan = plan.name();
 
             // Get the status of the highest priority subscription
             String status = user.getSubscriptions().stream()
-                    .filter(sub -> sub.getPlan().toString().equals(highestPriorityPlan))
+                    .filter(sub -> sub.getPlan() == plan)
                     .findFirst()
                     .map(sub -> sub.getStatus().toString())
                     .orElse("EXPIRED");
@@ -3,14 +3,18 @@ package com.org.group.controller.user;
 import com.org.group.dto.LaunchProject.LaunchProjectDto;
 import com.org.group.dto.analytics.AnalyticsResponseDto;
 import com.org.group.dto.analytics.UserAnalyticsResponse;
-import com.org.group.model.project.LaunchProject;
 import com.org.group.model.Users;
+import com.org.group.responses.CursorPageResponse;
+import com.org.group.responses.project.BookmarkStatusResponse;
 import com.org.group.responses.project.BookmarkedProjectResponse;
+import com.org.group.responses.PageResponse;
 import com.org.group.responses.project.LaunchProjectResponse;
+import com.org.group.responses.project.ProjectSummaryResponse;
 import com.org.group.services.LaunchProject.BookmarkServices;
 import com.org.group.services.LaunchProject.LaunchProjectServices;
 import com.org.group.services.emailAndJwt.PlanFilterServices;
 import com.org.group.services.UserService;
+import com.org.group.subscription.SubscriptionPlan;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -54,9 +58,7 @@ public class UserProjectController {
             if (user.getLaunchProjects().stream().anyMatch(project->projectDto.getProjectName().equals(project.getProjectName()))) {
                 return ResponseEntity.status(HttpStatus.CONFLICT).body("Project Name already exists.");
             }
-            String highestPriorityPlan = planFilterServices.getPlanFiltered(user);
-
-            if (highestPriorityPlan.equals("FREE")) {
+            if (!planFilterServices.hasAtLeast(userId, SubscriptionPlan.BASIC)) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("You are not authorized to Launch project. Upgrade your plan.");
             }
 
@@ -116,8 +118,8 @@ public class UserProjectController {
 
     //List of project user launched
     @GetMapping("/userId")
-    public ResponseEntity<List<LaunchProjectResponse>> getUserProjects(@RequestParam("user_id") UUID userId) {
-        List<LaunchProjectResponse> userProjects = launchProjectService.getProjectsByUserId(userId);
+    public ResponseEntity<List<ProjectSummaryResponse>> getUserProjects(@RequestParam("user_id") UUID userId) {
+        List<ProjectSummaryResponse> userProjects = launchProjectService.getProjectsByUserId(userId);
         return ResponseEntity.ok(userProjects);
     }
     //get project by id
@@ -129,8 +131,10 @@ public class UserProjectController {
     //all project launched
     @PreAuthorize("hasAnyRole('ADMIN','ANALYZER')")
     @GetMapping("/all")
-    public ResponseEntity<List<LaunchProject>> getAllProjects() {
-        return ResponseEntity.ok(launchProjectService.getAllProject());
+    public ResponseEntity<PageResponse<ProjectSummaryResponse>> getAllProjects(
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(launchProjectService.getAllProject(page, size));
     }
 
 
@@ -140,18 +144,23 @@ public class UserProjectController {
     //book marking project
 
     @PostMapping("/bookmark")
-    public ResponseEntity<?> bookmarkProject(@RequestParam UUID userId, @RequestParam  UUID projectId) {
-        bookmarkServices.bookmarkProject(userId, projectId);
-        return ResponseEntity.ok("Project bookmarked successfully");
+    public ResponseEntity<BookmarkStatusResponse> bookmarkProject(@RequestParam UUID userId, @RequestParam  UUID projectId) {
+        return ResponseEntity.ok(bookmarkServices.bookmarkProject(userId, projectId));
     }
     @DeleteMapping("/bookmark/remove")
-    public ResponseEntity<?> removeBookmarkProject(@RequestParam UUID userId,@RequestParam UUID projectId) {
-        bookmarkServices.deleteBookmark(userId, projectId);
-        return ResponseEntity.ok("Project bookmarked removed");
+    public ResponseEntity<BookmarkStatusResponse> removeBookmarkProject(@RequestParam UUID userId,@RequestParam UUID projectId) {
+        return ResponseEntity.ok(bookmarkServices.deleteBookmark(userId, projectId));
+    }
+    @PostMapping("/bookmark/toggle")
+    public ResponseEntity<BookmarkStatusResponse> toggleBookmarkProject(@RequestParam UUID userId, @RequestParam UUID projectId) {
+        return ResponseEntity.ok(bookmarkServices.toggleBookmark(userId, projectId));
     }
     @GetMapping("/bookmark")
-    public ResponseEntity<List<BookmarkedProjectResponse>> getBookmarkedProjects(@RequestParam UUID userId){
-       return bookmarkServices.getBookmarkedProjects(userId);
+    public ResponseEntity<CursorPageResponse<BookmarkedProjectResponse>> getBookmarkedProjects(
+            @RequestParam UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookmarkServices.getBookmarkedProjects(userId, cursor, size));
     }
 
     @GetMapping("/view/analytics")
@@ -0,0 +1,32 @@
+package com.org.group.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// Clamps client-supplied page/size parameters before they reach a repository
+public final class Paging {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private Paging() {
+    }
+
+    public static Pageable of(int page, int size) {
+        return of(page, size, Sort.unsorted());
+    }
+
+    public static Pageable of(int page, int size, Sort sort) {
+        return PageRequest.of(Math.max(page, 0), clampSize(size), sort);
+    }
+
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    // Keyset listings fetch one row more than the page to know whether another page exists;
+    // CursorPageResponse.of drops it again
+    public static Pageable keysetLimit(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+}
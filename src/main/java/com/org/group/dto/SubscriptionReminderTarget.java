@@ -0,0 +1,8 @@
+package com.org.group.dto;
+
+import com.org.group.subscription.SubscriptionPlan;
+
+import java.time.LocalDateTime;
+
+public record SubscriptionReminderTarget(Long subscriptionId, String email, SubscriptionPlan plan, LocalDateTime endDate) {
+}
@@ -0,0 +1,8 @@
+package com.org.group.dto;
+
+import com.org.group.subscription.SubscriptionPlan;
+
+import java.util.UUID;
+
+public record UserPlanRow(UUID userId, SubscriptionPlan plan) {
+}
@@ -0,0 +1,6 @@
+package com.org.group.dto.admin;
+
+import java.util.UUID;
+
+public record AnalyzerLoadRow(UUID analyzerId, String expertise, long openAssignments) {
+}
@@ -0,0 +1,20 @@
+package com.org.group.dto.admin;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+// Every listed project is assigned to every listed analyzer
+@Getter
+@Setter
+public class BulkAssignmentDto {
+
+    @NotEmpty(message = "At least one project is required")
+    private List<UUID> projectIds;
+
+    @NotEmpty(message = "At least one analyzer is required")
+    private List<UUID> analyzerIds;
+}
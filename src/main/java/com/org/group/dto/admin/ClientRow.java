@@ -0,0 +1,9 @@
+package com.org.group.dto.admin;
+
+import java.util.UUID;
+
+// One admin directory row; planRank is the ordinal of the user's effective SubscriptionPlan
+public record ClientRow(UUID id, String name, String nationalId, String gender, String nationality,
+                        String professional, String email, String phone, boolean enabled, Boolean subscribed,
+                        boolean isActive, String photoUrl, String tempEmail, Integer planRank) {
+}
@@ -0,0 +1,22 @@
+package com.org.group.dto.blog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogSummaryDto {
+
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private String photoUrl;
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,6 @@
+package com.org.group.dto.community;
+
+import java.util.UUID;
+
+public record MemberContact(UUID id, String name, String email, String phone) {
+}
@@ -0,0 +1,10 @@
+package com.org.group.dto.userResponse;
+
+import com.org.group.model.RattingStatus;
+
+import java.util.UUID;
+
+// Moderation queue row; planRank is the ordinal of the rater's effective SubscriptionPlan
+public record PendingRatingRow(Long id, UUID userId, String userName, String userPhoto, String message, int starNumber,
+                               RattingStatus status, Integer planRank) {
+}
@@ -0,0 +1,8 @@
+package com.org.group.dto.userResponse;
+
+import com.org.group.dto.LaunchProject.AnalyticStatus;
+
+import java.util.UUID;
+
+public record ProjectStatusRow(UUID id, String projectName, AnalyticStatus status) {
+}
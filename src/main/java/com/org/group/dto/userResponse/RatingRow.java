@@ -0,0 +1,9 @@
+package com.org.group.dto.userResponse;
+
+import com.org.group.model.RattingStatus;
+
+import java.util.UUID;
+
+public record RatingRow(Long id, UUID userId, String userName, String userPhoto, String message, int starNumber,
+                        RattingStatus status) {
+}
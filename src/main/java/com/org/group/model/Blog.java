@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "blogs")
+@Table(name = "blogs", indexes = {
+        @Index(name = "idx_blogs_status_published", columnList = "status, published_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,8 @@
+package com.org.group.model;
+
+public enum EmailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -7,7 +7,9 @@ import lombok.*;
 import java.util.UUID;
 
 @Entity
-@Table(name = "user_ratting")
+@Table(name = "user_ratting", indexes = {
+        @Index(name = "idx_user_ratting_status", columnList = "status, id")
+})
 @AllArgsConstructor
 @Setter
 @Getter
@@ -1,5 +1,6 @@
 package com.org.group.model;
 
+import com.org.group.services.emailAndJwt.SubscriptionPlanListener;
 import com.org.group.subscription.SubscriptionPlan;
 import com.org.group.subscription.SubscriptionStatus;
 import jakarta.persistence.*;
@@ -9,7 +10,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "user_subscriptions")
+@Table(name = "user_subscriptions", indexes = {
+        @Index(name = "idx_user_subscriptions_status_end", columnList = "status, endDate"),
+        @Index(name = "idx_user_subscriptions_user", columnList = "user_id")
+})
+@EntityListeners(SubscriptionPlanListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -39,6 +44,10 @@ public class UserSubscription {
     @Column(nullable = false)
     private SubscriptionStatus status = SubscriptionStatus.ACTIVE; // e.g., ACTIVE, INACTIVE, EXPIRED
 
+    // endDate the expiry reminder was last sent for; a renewal moves endDate and re-arms the reminder
+    @Column(name = "reminder_sent_for")
+    private LocalDateTime reminderSentFor;
+
     @OneToOne(mappedBy = "subscription", cascade = CascadeType.ALL, orphanRemoval = true)
     private Payment payments;
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.org.group.model.project.Bookmark;
 import com.org.group.model.project.CommunityProject;
 import com.org.group.model.project.LaunchProject;
 import com.org.group.role.Role;
+import com.org.group.services.ProfileChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -22,6 +23,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(ProfileChangeListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
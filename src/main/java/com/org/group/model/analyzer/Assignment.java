@@ -9,7 +9,9 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "assigment_analyser")
+@Table(name = "assigment_analyser",
+        uniqueConstraints = @UniqueConstraint(name = "uk_assignment_project_analyzer", columnNames = {"project_id", "analyzer_id"}),
+        indexes = @Index(name = "idx_assignment_analyzer", columnList = "analyzer_id"))
 @Data
 @Builder
 @AllArgsConstructor
@@ -1,5 +1,6 @@
 package com.org.group.model.project;
 import com.org.group.model.Users;
+import com.org.group.services.ProfileChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,7 +8,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bookmark")
+@Table(name = "bookmark",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bookmark_user_project", columnNames = {"user_id", "project_id"}),
+        indexes = @Index(name = "idx_bookmark_user_bookmarked", columnList = "user_id, bookmarkedAt"))
+@EntityListeners(ProfileChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -8,6 +8,9 @@ import lombok.*;
 import java.util.UUID;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_joined_project_user_project",
+        columnNames = {"userId", "communityProjectId"}),
+        indexes = @Index(name = "idx_joined_project_project_status", columnList = "communityProjectId, status"))
 @Builder
 @Getter
 @Setter
@@ -4,6 +4,7 @@ import com.org.group.dto.LaunchProject.AnalyticStatus;
 import com.org.group.model.Users;
 import com.org.group.model.analyzer.AnalyticProject;
 import com.org.group.model.analyzer.Assignment;
+import com.org.group.services.ProfileChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,7 +13,11 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "launch_project")
+@Table(name = "launch_project", indexes = {
+        @Index(name = "idx_launch_project_feed", columnList = "submittedOn, project_id"),
+        @Index(name = "idx_launch_project_status_submitted", columnList = "status, submittedOn")
+})
+@EntityListeners(ProfileChangeListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -101,13 +106,18 @@ public class LaunchProject {
     private AnalyticStatus status;
 
     //extra field
+    // written only by BookmarkServices through relative SQL updates
+    @Column(updatable = false)
     private int countBookmark;
+    // written only by AnalyzerServices through guarded SQL updates (at most MAX_ANALYZERS_PER_PROJECT)
+    @Column(updatable = false)
     private int countAssignment;
-    @Column(nullable = true)
+    // written only by ProjectCounterService, so entity saves never overwrite flushed counts
+    @Column(nullable = true, updatable = false)
     private long views;
-    @Column(nullable = true)
+    @Column(nullable = true, updatable = false)
     private long interaction;
-    @Column(nullable = true)
+    @Column(nullable = true, updatable = false)
     private long interestedInvestors;
 
 
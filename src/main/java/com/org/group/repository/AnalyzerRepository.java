@@ -1,11 +1,14 @@
 package com.org.group.repository;
 
+import com.org.group.dto.LaunchProject.AnalyticStatus;
+import com.org.group.dto.admin.AnalyzerLoadRow;
 import com.org.group.model.analyzer.Analyzer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +24,15 @@ public interface AnalyzerRepository extends JpaRepository<Analyzer, UUID> {
     @Query("SELECT DISTINCT a FROM Analyzer a LEFT JOIN FETCH a.assignment WHERE a.id = :id")
     Optional<Analyzer> findByIdWithAssignments(@Param("id") UUID id);
 
+    @Query("select a.id from Analyzer a where a.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // Enabled analyzers with the number of assigned projects still in the given status (their open workload)
+    @Query("select new com.org.group.dto.admin.AnalyzerLoadRow(an.id, an.expertise, count(p)) " +
+            "from Analyzer an left join an.assignment a left join a.project p on p.status = :status " +
+            "where an.enabled = true group by an.id, an.expertise")
+    List<AnalyzerLoadRow> findEnabledLoads(@Param("status") AnalyticStatus status);
+
     // Alternative query to debug
     // @Query(value = "SELECT COUNT(*) FROM assigment_analyser WHERE analyzer_id = :analyzerId", nativeQuery = true)
     // Long countAssignmentsByAnalyzerId(@Param("analyzerId") UUID analyzerId);
@@ -1,12 +1,15 @@
 package com.org.group.repository;
 
+import com.org.group.dto.blog.BlogSummaryDto;
 import com.org.group.model.Blog;
 import com.org.group.model.BlogStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +24,28 @@ public interface BlogRepository extends JpaRepository<Blog, UUID> {
     @Query("SELECT b FROM Blog b WHERE b.status = :status ORDER BY b.publishedAt DESC")
     List<Blog> findPublishedBlogsOrderByPublishedDate(@Param("status") BlogStatus status);
     
+    String BLOG_SUMMARY = "select new com.org.group.dto.blog.BlogSummaryDto(" +
+            "b.id, b.title, substring(b.description, 1, 280), b.photoUrl, b.publishedAt) ";
+
+    // Published listing, newest first, keyed on (publishedAt, id); only the first 280 chars of the body are read
+    @Query(BLOG_SUMMARY + """
+            from Blog b
+            where b.status = :status and b.publishedAt is not null
+            order by b.publishedAt desc, b.id desc
+            """)
+    List<BlogSummaryDto> findPublishedSummaries(@Param("status") BlogStatus status, Pageable pageable);
+
+    @Query(BLOG_SUMMARY + """
+            from Blog b
+            where b.status = :status and b.publishedAt is not null
+              and (b.publishedAt < :publishedAt or (b.publishedAt = :publishedAt and b.id < :id))
+            order by b.publishedAt desc, b.id desc
+            """)
+    List<BlogSummaryDto> findPublishedSummariesAfter(@Param("status") BlogStatus status,
+                                                     @Param("publishedAt") LocalDateTime publishedAt,
+                                                     @Param("id") UUID id,
+                                                     Pageable pageable);
+
     Optional<Blog> findByTitle(String title);
     
     boolean existsByTitle(String title);
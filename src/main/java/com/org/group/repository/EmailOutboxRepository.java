@@ -0,0 +1,56 @@
+package com.org.group.repository;
+
+import com.org.group.model.EmailOutbox;
+import com.org.group.model.EmailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    @Query("select e.id from EmailOutbox e where e.status = :status and e.nextAttemptAt <= :now order by e.nextAttemptAt")
+    List<UUID> findDueIds(@Param("status") EmailStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Only rows still PENDING are taken, so concurrent senders never claim the same message
+    @Modifying
+    @Transactional
+    @Query("update EmailOutbox e set e.status = :sending, e.claimToken = :token, e.claimedAt = :now " +
+            "where e.id in :ids and e.status = :pending")
+    int claim(@Param("ids") List<UUID> ids,
+              @Param("token") UUID token,
+              @Param("now") LocalDateTime now,
+              @Param("pending") EmailStatus pending,
+              @Param("sending") EmailStatus sending);
+
+    List<EmailOutbox> findByClaimToken(UUID claimToken);
+
+    // Returns messages abandoned by a sender that died mid-batch
+    @Modifying
+    @Transactional
+    @Query("update EmailOutbox e set e.status = :pending, e.claimToken = null " +
+            "where e.status = :sending and e.claimedAt < :before")
+    int releaseStale(@Param("before") LocalDateTime before,
+                     @Param("sending") EmailStatus sending,
+                     @Param("pending") EmailStatus pending);
+
+    // Bodies of finished messages written before bodies were cleared on completion
+    @Modifying
+    @Transactional
+    @Query("update EmailOutbox e set e.body = null where e.status in :finished and e.body is not null")
+    int clearFinishedBodies(@Param("finished") Collection<EmailStatus> finished);
+
+    @Modifying
+    @Transactional
+    @Query("delete from EmailOutbox e where e.status in :finished and e.createdAt < :before")
+    int deleteFinishedBefore(@Param("finished") Collection<EmailStatus> finished, @Param("before") LocalDateTime before);
+}
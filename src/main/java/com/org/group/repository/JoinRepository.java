@@ -1,15 +1,28 @@
 package com.org.group.repository;
 
+import com.org.group.model.JoinStatus;
 import com.org.group.model.project.JoinedProject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JoinRepository extends JpaRepository<JoinedProject, UUID> {
     List<JoinedProject> findByCommunityProjectId(UUID communityProjectId);
+    List<JoinedProject> findByCommunityProjectIdAndStatusIn(UUID communityProjectId, Collection<JoinStatus> statuses);
     boolean existsByUserIdAndCommunityProjectId(UUID userId, UUID communityProjectId);
     List<JoinedProject> findByUserId(UUID userId);
+
+    // Moves a join request out of `from`; returns 0 when another action already processed it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("update JoinedProject j set j.status = :to where j.id = :id and j.status = :from")
+    int transitionStatus(@Param("id") UUID id, @Param("from") JoinStatus from, @Param("to") JoinStatus to);
 }
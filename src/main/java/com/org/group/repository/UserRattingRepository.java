@@ -1,10 +1,19 @@
 package com.org.group.repository;
 
+import com.org.group.dto.userResponse.PendingRatingRow;
+import com.org.group.dto.userResponse.RatingRow;
 import com.org.group.model.RattingStatus;
 import com.org.group.model.UserRatting;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,4 +22,27 @@ import java.util.UUID;
 public interface UserRattingRepository extends JpaRepository<UserRatting,Long> {
     List<UserRatting> findByStatus(RattingStatus status);
     Optional<UserRatting> findByUsers_Id(UUID userId);
+
+    // Rater name and photo joined in the same statement instead of loading each Users entity
+    @Query("""
+            select new com.org.group.dto.userResponse.RatingRow(
+                r.id, u.id, u.name, u.photoUrl, r.message, r.starNumber, r.status)
+            from UserRatting r join r.users u
+            where r.status = :status
+            order by r.id desc
+            """)
+    List<RatingRow> findRowsByStatus(@Param("status") RattingStatus status);
+
+    // Moderation page, oldest first, with the rater's effective plan computed in the same statement
+    @Query(value = "select new com.org.group.dto.userResponse.PendingRatingRow(" +
+            "r.id, u.id, u.name, u.photoUrl, r.message, r.starNumber, r.status, " + UserRepository.EFFECTIVE_PLAN_RANK + ") " +
+            "from UserRatting r join r.users u where r.status = :status order by r.id",
+            countQuery = "select count(r) from UserRatting r where r.status = :status")
+    Page<PendingRatingRow> findModerationPage(@Param("status") RattingStatus status, Pageable pageable);
+
+    // Moves every listed rating that is still in `from`; returns how many actually changed
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("update UserRatting r set r.status = :to where r.id in :ids and r.status = :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids, @Param("from") RattingStatus from, @Param("to") RattingStatus to);
 }
@@ -1,9 +1,22 @@
 package com.org.group.repository;
 
+import com.org.group.dto.admin.ClientRow;
+import com.org.group.dto.community.MemberContact;
+import com.org.group.dto.userResponse.UserBasicInfoDto;
 import com.org.group.model.Users;
+import com.org.group.subscription.SubscriptionPlan;
+import com.org.group.subscription.SubscriptionStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,4 +29,47 @@ public interface UserRepository extends JpaRepository<Users, UUID> {
      Optional<Users>findByNationalId(String nationalId);
      Optional<Users>findByPhone(String phoneNumber);
 
+    // Rank of the highest non-expired plan (SubscriptionPlan ordinal), FREE when the user has none.
+    // The ranks must equal the ordinals; UserRepositoryTest checks them against the enum.
+    String EFFECTIVE_PLAN_RANK = "coalesce((select max(case s.plan " +
+            "when com.org.group.subscription.SubscriptionPlan.BASIC then 1 " +
+            "when com.org.group.subscription.SubscriptionPlan.PREMIUM then 2 " +
+            "when com.org.group.subscription.SubscriptionPlan.IMENA then 3 else 0 end) " +
+            "from UserSubscription s where s.user = u " +
+            "and s.status <> com.org.group.subscription.SubscriptionStatus.EXPIRED), 0)";
+
+    String CLIENT_FILTER = "where (:prefix is null or lower(u.name) like :prefix escape '!' or lower(u.email) like :prefix escape '!') " +
+            "and (:active is null or u.isActive = :active) " +
+            "and (:planRank is null or " + EFFECTIVE_PLAN_RANK + " = :planRank)";
+
+    // Admin client directory page; roles are loaded separately for the page ids only
+    @Query(value = "select new com.org.group.dto.admin.ClientRow(u.id, u.name, u.nationalId, u.gender, u.nationality, " +
+            "u.professional, u.email, u.phone, u.enabled, u.subscribed, u.isActive, u.photoUrl, u.tempEmail, " +
+            EFFECTIVE_PLAN_RANK + ") from Users u " + CLIENT_FILTER,
+            countQuery = "select count(u) from Users u " + CLIENT_FILTER)
+    Page<ClientRow> findClientPage(@Param("prefix") String prefix,
+                                   @Param("active") Boolean active,
+                                   @Param("planRank") Integer planRank,
+                                   Pageable pageable);
+
+    // Profile header without the EAGER roles / subscriptions of Users
+    @Query("select new com.org.group.dto.userResponse.UserBasicInfoDto(u.id, u.name, u.email, u.phone, u.professional, " +
+            "u.photoUrl, u.nationalId, u.isActive, coalesce(u.subscribed, false)) from Users u where u.id = :id")
+    Optional<UserBasicInfoDto> findBasicInfoById(@Param("id") UUID id);
+
+    // Contact columns only, so the EAGER roles/subscriptions of Users are not loaded per member
+    @Query("select new com.org.group.dto.community.MemberContact(u.id, u.name, u.email, u.phone) from Users u where u.id in :ids")
+    List<MemberContact> findContactsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select u.id, r from Users u join u.roles r where u.id in :ids")
+    List<Object[]> findRolesByUserIds(@Param("ids") Collection<UUID> ids);
+
+    // Clears the subscribed flag for every user left without an active paid plan
+    @Modifying
+    @Transactional
+    @Query("update Users u set u.subscribed = false where u.subscribed = true and not exists (" +
+            "select s.id from UserSubscription s where s.user = u and s.status = :active and s.plan <> :free)")
+    int clearSubscribedWithoutActivePlan(@Param("active") SubscriptionStatus active,
+                                         @Param("free") SubscriptionPlan free);
+
 }
@@ -1,12 +1,60 @@
 package com.org.group.repository;
 
+import com.org.group.dto.SubscriptionReminderTarget;
+import com.org.group.dto.UserPlanRow;
 import com.org.group.model.UserSubscription;
+import com.org.group.subscription.SubscriptionStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface UserSubscriptionRepository extends JpaRepository<UserSubscription,Long> {
     Optional<List<UserSubscription>> findByUser_Id(UUID userId);
+
+    @Query("select new com.org.group.dto.UserPlanRow(s.user.id, s.plan) from UserSubscription s " +
+            "where s.user.id in :userIds and s.status <> :expired")
+    List<UserPlanRow> findLivePlans(@Param("userIds") Collection<UUID> userIds,
+                                    @Param("expired") SubscriptionStatus expired);
+
+    @Query("select s.id from UserSubscription s where s.status <> :expired and s.endDate < :now")
+    List<Long> findIdsToExpire(@Param("expired") SubscriptionStatus expired,
+                               @Param("now") LocalDateTime now,
+                               Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("update UserSubscription s set s.status = :expired where s.id in :ids and s.status <> :expired")
+    int markExpired(@Param("ids") List<Long> ids, @Param("expired") SubscriptionStatus expired);
+
+    // Subscriptions ending inside the window that have not been reminded for their current endDate
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "200"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.org.group.dto.SubscriptionReminderTarget(s.id, u.email, s.plan, s.endDate) " +
+            "from UserSubscription s join s.user u " +
+            "where s.status <> :expired and s.endDate > :from and s.endDate <= :to " +
+            "and (s.reminderSentFor is null or s.reminderSentFor <> s.endDate)")
+    Stream<SubscriptionReminderTarget> streamDueForReminder(@Param("expired") SubscriptionStatus expired,
+                                                            @Param("from") LocalDateTime from,
+                                                            @Param("to") LocalDateTime to);
+
+    // Claims the reminder; returns 0 when another node already sent it for this endDate
+    @Modifying
+    @Transactional
+    @Query("update UserSubscription s set s.reminderSentFor = s.endDate " +
+            "where s.id = :id and s.endDate = :endDate and (s.reminderSentFor is null or s.reminderSentFor <> s.endDate)")
+    int markReminderSent(@Param("id") Long id, @Param("endDate") LocalDateTime endDate);
 }
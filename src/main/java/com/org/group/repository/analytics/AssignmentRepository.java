@@ -1,11 +1,17 @@
 package com.org.group.repository.analytics;
 
+import com.org.group.dto.LaunchProject.AnalyticStatus;
 import com.org.group.model.analyzer.Assignment;
-import com.org.group.model.project.LaunchProject;
+import com.org.group.repository.project.LaunchProjectRepository;
+import com.org.group.responses.project.ProjectSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,11 +23,33 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     boolean existsByProject_ProjectIdAndAnalyzer_Id(UUID projectId, UUID analyzerId);
     Optional<Assignment> findByProject_ProjectIdAndAnalyzer_Id(UUID projectId, UUID analyzerId);
     
-    @Query("SELECT a.project FROM Assignment a WHERE a.analyzer.id = :analyzerId AND a.project.status = com.org.group.dto.LaunchProject.AnalyticStatus.PENDING")
-    List<LaunchProject> findPendingProjectsByAnalyzerId(@Param("analyzerId") UUID analyzerId);
-
     @Query("SELECT a FROM Assignment a WHERE a.project.projectId = :projectId")
     List<Assignment> findAssignmentsByProjectId(@Param("projectId") UUID projectId);
     
     List<Assignment> findByAnalyzer_Id(UUID analyzerId);
+
+    @Query("select a.analyzer.id from Assignment a where a.project.projectId = :projectId")
+    List<UUID> findAnalyzerIdsByProjectId(@Param("projectId") UUID projectId);
+
+    // Analyzer inbox: pending projects assigned to the analyzer, oldest submission first
+    @Query(value = LaunchProjectRepository.PROJECT_SUMMARY +
+            "from Assignment a join a.project p where a.analyzer.id = :analyzerId and p.status = :status " +
+            "order by p.submittedOn, p.projectId",
+            countQuery = "select count(a) from Assignment a where a.analyzer.id = :analyzerId and a.project.status = :status")
+    Page<ProjectSummaryResponse> findInboxPage(@Param("analyzerId") UUID analyzerId,
+                                               @Param("status") AnalyticStatus status,
+                                               Pageable pageable);
+
+    // Idempotent insert backed by uk_assignment_project_analyzer; returns 0 when the pair already exists
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = "insert into assigment_analyser (id, project_id, analyzer_id) " +
+            "values (nextval('assigment_analyser_seq'), :projectId, :analyzerId) " +
+            "on conflict (project_id, analyzer_id) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") UUID projectId, @Param("analyzerId") UUID analyzerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("delete from Assignment a where a.project.projectId = :projectId and a.analyzer.id = :analyzerId")
+    int deleteByProjectAndAnalyzer(@Param("projectId") UUID projectId, @Param("analyzerId") UUID analyzerId);
 }
@@ -1,19 +1,65 @@
 package com.org.group.repository.project;
 
+import com.org.group.dto.LaunchProject.AnalyticStatus;
+import com.org.group.dto.userResponse.BookmarkDto;
 import com.org.group.model.project.Bookmark;
+import com.org.group.responses.project.BookmarkedProjectResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, UUID> {
-    boolean existsByUserIdAndProjectProjectId(UUID userId, UUID projectId);
-    void deleteByUserIdAndProjectProjectId(UUID userId, UUID projectId);
-    Optional<Bookmark> findByUserIdAndProjectProjectId(UUID userId, UUID projectId);
+    // Idempotent add backed by uk_bookmark_user_project; returns 0 when the bookmark already exists
+    @Modifying
+    @Transactional
+    @Query(value = "insert into bookmark (bookmark_id, user_id, project_id, bookmarked_at) " +
+            "values (:id, :userId, :projectId, localtimestamp) on conflict (user_id, project_id) do nothing",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("userId") UUID userId, @Param("projectId") UUID projectId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("delete from Bookmark b where b.user.id = :userId and b.project.projectId = :projectId")
+    int deleteByUserAndProject(@Param("userId") UUID userId, @Param("projectId") UUID projectId);
+
+    String BOOKMARKED_PROJECT = "select new com.org.group.responses.project.BookmarkedProjectResponse(" +
+            "p.projectId, p.clientName, p.status, p.description, p.projectPhotoUrl, p.category, p.projectName, " +
+            "b.bookmarkedAt, p.projectPurpose) from Bookmark b join b.project p ";
+
+    // Newest bookmarks first, keyed on (bookmarkedAt, projectId); a user bookmarks a project at most once
+    @Query(BOOKMARKED_PROJECT + """
+            where b.user.id = :userId and p.status <> :excluded
+            order by b.bookmarkedAt desc, p.projectId desc
+            """)
+    List<BookmarkedProjectResponse> findBookmarkedProjects(@Param("userId") UUID userId,
+                                                           @Param("excluded") AnalyticStatus excluded,
+                                                           Pageable pageable);
+
+    @Query(BOOKMARKED_PROJECT + """
+            where b.user.id = :userId and p.status <> :excluded
+              and (b.bookmarkedAt < :bookmarkedAt or (b.bookmarkedAt = :bookmarkedAt and p.projectId < :projectId))
+            order by b.bookmarkedAt desc, p.projectId desc
+            """)
+    List<BookmarkedProjectResponse> findBookmarkedProjectsAfter(@Param("userId") UUID userId,
+                                                                @Param("excluded") AnalyticStatus excluded,
+                                                                @Param("bookmarkedAt") LocalDateTime bookmarkedAt,
+                                                                @Param("projectId") UUID projectId,
+                                                                Pageable pageable);
+
+    // Bookmarked project names joined in, instead of walking user.getBookmarks() -> getProject() per row
+    @Query("select new com.org.group.dto.userResponse.BookmarkDto(b.id, p.projectName, 'LAUNCHED') " +
+            "from Bookmark b join b.project p where b.user.id = :userId order by b.bookmarkedAt desc")
+    List<BookmarkDto> findBookmarkNamesByUserId(@Param("userId") UUID userId);
 
 
 }
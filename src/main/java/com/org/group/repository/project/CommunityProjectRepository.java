@@ -1,11 +1,16 @@
 package com.org.group.repository.project;
 
 import com.org.group.dto.LaunchProject.AnalyticStatus;
+import com.org.group.dto.userResponse.ProjectStatusRow;
 import com.org.group.model.Users;
 import com.org.group.model.project.CommunityProject;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -15,9 +20,35 @@ public interface CommunityProjectRepository extends JpaRepository<CommunityProje
     
     // Find projects by user
     List<CommunityProject> findByUser(Users user);
+
+    @Query("select new com.org.group.dto.userResponse.ProjectStatusRow(p.id, p.projectName, p.status) " +
+            "from CommunityProject p where p.user.id = :userId")
+    List<ProjectStatusRow> findStatusRowsByUserId(@Param("userId") UUID userId);
     
     // Find projects by status
     List<CommunityProject> findByStatus(AnalyticStatus status);
-    
 
+    // Team slots live in the team JSONB array. The statement decrements the "number" of the first team with
+    // the given title (the one the old findFirst lookup took) and only when that same team has a free slot,
+    // as one conditional UPDATE: the row lock serialises concurrent accepts, and a reservation matches
+    // nothing (returns 0) once the team is full or missing.
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = """
+            update community_project c
+            set team = (select jsonb_agg(case when e.ord = (select min(f.ord)
+                                                            from jsonb_array_elements(c.team) with ordinality as f(t, ord)
+                                                            where f.t ->> 'title' = :title)
+                                              then jsonb_set(e.t, '{number}', to_jsonb(cast(e.t ->> 'number' as integer) - 1))
+                                              else e.t end order by e.ord)
+                        from jsonb_array_elements(c.team) with ordinality as e(t, ord)),
+                updated_on = localtimestamp
+            where c.id = :projectId
+              and (select cast(s.t ->> 'number' as integer)
+                   from jsonb_array_elements(c.team) with ordinality as s(t, ord)
+                   where s.t ->> 'title' = :title
+                   order by s.ord
+                   limit 1) > 0
+            """, nativeQuery = true)
+    int reserveTeamSlot(@Param("projectId") UUID projectId, @Param("title") String title);
 }
@@ -1,16 +1,129 @@
 package com.org.group.repository.project;
 
+import com.org.group.dto.LaunchProject.AnalyticStatus;
+import com.org.group.dto.userResponse.ProjectStatusRow;
 import com.org.group.model.project.LaunchProject;
+import com.org.group.responses.project.HomeProjectResponse;
+import com.org.group.responses.project.ProjectSummaryResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface LaunchProjectRepository extends JpaRepository<LaunchProject, UUID> {
     List<LaunchProject> findByUserId(UUID userId);
-    
+
+    @Query("select new com.org.group.dto.userResponse.ProjectStatusRow(p.projectId, p.projectName, p.status) " +
+            "from LaunchProject p where p.user.id = :userId")
+    List<ProjectStatusRow> findStatusRowsByUserId(@Param("userId") UUID userId);
+
+    // Relative update of the bookmark counter; returns the new value, or null when the project does not exist
+    @Transactional
+    @Query(value = "update launch_project set count_bookmark = greatest(count_bookmark + :delta, 0) " +
+            "where project_id = :projectId returning count_bookmark", nativeQuery = true)
+    Integer adjustBookmarkCount(@Param("projectId") UUID projectId, @Param("delta") int delta);
+
+    @Query("select p.countBookmark from LaunchProject p where p.projectId = :projectId")
+    Optional<Integer> findBookmarkCount(@Param("projectId") UUID projectId);
+
+    // Realigns count_bookmark with the bookmark rows for projects where they drifted apart
+    @Modifying
+    @Transactional
+    @Query(value = "update launch_project p set count_bookmark = c.total from (" +
+            "select lp.project_id, count(b.bookmark_id) as total from launch_project lp " +
+            "left join bookmark b on b.project_id = lp.project_id group by lp.project_id) c " +
+            "where c.project_id = p.project_id and p.count_bookmark is distinct from c.total", nativeQuery = true)
+    int resyncBookmarkCounts();
+
+    // Takes one analyzer slot; returns 0 when the project is missing or already has `max` analyzers.
+    // The row lock taken by the update serializes concurrent assignments to the same project.
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = "update launch_project set count_assignment = count_assignment + 1 " +
+            "where project_id = :projectId and count_assignment < :max", nativeQuery = true)
+    int reserveAssignmentSlot(@Param("projectId") UUID projectId, @Param("max") int max);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query(value = "update launch_project set count_assignment = greatest(count_assignment - 1, 0) " +
+            "where project_id = :projectId", nativeQuery = true)
+    int releaseAssignmentSlot(@Param("projectId") UUID projectId);
+
+    // Realigns count_assignment with the assignment rows for projects where they drifted apart
+    @Modifying
+    @Transactional
+    @Query(value = "update launch_project p set count_assignment = c.total from (" +
+            "select lp.project_id, count(a.id) as total from launch_project lp " +
+            "left join assigment_analyser a on a.project_id = lp.project_id group by lp.project_id) c " +
+            "where c.project_id = p.project_id and p.count_assignment <> c.total", nativeQuery = true)
+    int resyncAssignmentCounts();
+
+    @Query("select new com.org.group.dto.userResponse.ProjectStatusRow(p.projectId, p.projectName, p.status) " +
+            "from LaunchProject p where p.projectId in :ids")
+    List<ProjectStatusRow> findStatusRowsByIds(@Param("ids") Collection<UUID> ids);
+
+    // Empty when the project does not exist or is not in the given status; a missing category comes back as ""
+    @Query("select coalesce(p.category, '') from LaunchProject p where p.projectId = :projectId and p.status = :status")
+    Optional<String> findCategoryByIdAndStatus(@Param("projectId") UUID projectId, @Param("status") AnalyticStatus status);
+
+    // Home feed: newest first, keyed on (submittedOn, projectId), price joined in the same statement
+    @Query("""
+            select new com.org.group.responses.project.HomeProjectResponse(
+                p.projectId, p.projectName, p.description, p.linkedIn, p.projectPhotoUrl, p.status,
+                p.clientName, p.category, p.projectPurpose, a.price, p.projectLocation, p.projectType, p.submittedOn)
+            from LaunchProject p left join p.analyticProject a
+            where p.status <> :excluded
+            order by p.submittedOn desc, p.projectId desc
+            """)
+    List<HomeProjectResponse> findHomeFeed(@Param("excluded") AnalyticStatus excluded, Pageable pageable);
+
+    @Query("""
+            select new com.org.group.responses.project.HomeProjectResponse(
+                p.projectId, p.projectName, p.description, p.linkedIn, p.projectPhotoUrl, p.status,
+                p.clientName, p.category, p.projectPurpose, a.price, p.projectLocation, p.projectType, p.submittedOn)
+            from LaunchProject p left join p.analyticProject a
+            where p.status <> :excluded
+              and (p.submittedOn < :submittedOn or (p.submittedOn = :submittedOn and p.projectId < :projectId))
+            order by p.submittedOn desc, p.projectId desc
+            """)
+    List<HomeProjectResponse> findHomeFeedAfter(@Param("excluded") AnalyticStatus excluded,
+                                                @Param("submittedOn") LocalDateTime submittedOn,
+                                                @Param("projectId") UUID projectId,
+                                                Pageable pageable);
+
+    String PROJECT_SUMMARY = "select new com.org.group.responses.project.ProjectSummaryResponse(" +
+            "p.projectId, p.projectName, p.clientName, p.email, p.category, p.projectLocation, p.projectPhotoUrl, " +
+            "p.status, p.submittedOn, p.updatedOn) ";
+
+    // List views select summary columns only; the detail view loads the entity by id
+    @Query(PROJECT_SUMMARY + "from LaunchProject p where p.user.id = :userId order by p.submittedOn desc")
+    List<ProjectSummaryResponse> findSummariesByUserId(@Param("userId") UUID userId);
+
+    @Query(value = PROJECT_SUMMARY + "from LaunchProject p order by p.submittedOn desc",
+            countQuery = "select count(p) from LaunchProject p")
+    Page<ProjectSummaryResponse> findSummaryPage(Pageable pageable);
+
+    // Dashboard queues: one status, newest first, served by idx_launch_project_status_submitted
+    @Query(value = PROJECT_SUMMARY + "from LaunchProject p where p.status = :status order by p.submittedOn desc",
+            countQuery = "select count(p) from LaunchProject p where p.status = :status")
+    Page<ProjectSummaryResponse> findSummaryPageByStatus(@Param("status") AnalyticStatus status, Pageable pageable);
+
+    @Query(value = PROJECT_SUMMARY + "from LaunchProject p join p.analyticProject a " +
+            "where p.status = :status and a.analyticsEnabled = true order by p.submittedOn desc",
+            countQuery = "select count(p) from LaunchProject p join p.analyticProject a " +
+                    "where p.status = :status and a.analyticsEnabled = true")
+    Page<ProjectSummaryResponse> findSummaryPageByStatusWithEnabledAnalytics(@Param("status") AnalyticStatus status,
+                                                                            Pageable pageable);
 
 }
@@ -0,0 +1,33 @@
+package com.org.group.responses;
+
+import com.org.group.dto.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // rows were fetched with Paging.keysetLimit(pageSize); the next cursor is the position of the last item kept
+    public static <T> CursorPageResponse<T> of(List<T> rows, int pageSize, Function<T, KeysetCursor> position) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> items = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .nextCursor(hasNext ? position.apply(items.get(items.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
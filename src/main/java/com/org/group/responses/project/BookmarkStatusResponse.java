@@ -0,0 +1,20 @@
+package com.org.group.responses.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookmarkStatusResponse {
+    private UUID projectId;
+    private boolean bookmarked;
+    private int countBookmark;
+}
@@ -0,0 +1,23 @@
+package com.org.group.responses.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignmentResponse {
+
+    public record SkippedAssignment(UUID projectId, UUID analyzerId, String reason) {}
+
+    private int assigned;
+    private List<SkippedAssignment> skipped;
+}
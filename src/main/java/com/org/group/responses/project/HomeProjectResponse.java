@@ -1,15 +1,20 @@
 package com.org.group.responses.project;
 
 import com.org.group.dto.LaunchProject.AnalyticStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class HomeProjectResponse {
     private UUID projectId;
     private String projectName;
@@ -23,4 +28,5 @@ public class HomeProjectResponse {
     private Double projectFinancialCategory;
     private String projectLocation;
     private String projectType;
+    private LocalDateTime submittedOn;
 }
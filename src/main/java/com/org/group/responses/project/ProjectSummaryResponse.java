@@ -0,0 +1,30 @@
+package com.org.group.responses.project;
+
+import com.org.group.dto.LaunchProject.AnalyticStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// List-view row for launch projects; the full LaunchProjectResponse is served by GET /client/project/{projectId}
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummaryResponse {
+    private UUID projectId;
+    private String projectName;
+    private String clientName;
+    private String email;
+    private String category;
+    private String projectLocation;
+    private String projectPhotoUrl;
+    private AnalyticStatus status;
+    private LocalDateTime submittedOn;
+    private LocalDateTime updatedOn;
+}
@@ -1,8 +1,11 @@
 package com.org.group.services.Admin;
 
+import com.org.group.config.PrincipalCache;
 import com.org.group.dto.LaunchProject.AnalyticStatus;
+import com.org.group.dto.Paging;
 import com.org.group.dto.admin.AnalyzerDto;
 import com.org.group.dto.admin.AnalyzerInfoDto;
+import com.org.group.dto.admin.ClientRow;
 import com.org.group.dto.admin.UpdateAnalyzerDto;
 import com.org.group.dto.analytics.AnalyticsResponseDto;
 import com.org.group.dto.userAuth.LoginUserDto;
@@ -19,17 +22,21 @@ import com.org.group.repository.UserRepository;
 import com.org.group.repository.analytics.AnalyticProjectRepository;
 import com.org.group.repository.analytics.AssignmentRepository;
 import com.org.group.repository.project.LaunchProjectRepository;
+import com.org.group.responses.PageResponse;
 import com.org.group.responses.Users.ClientResponseDto;
 import com.org.group.responses.project.LaunchProjectResponse;
-import com.org.group.responses.project.LaunchedProjectAnalyticsResponse;
+import com.org.group.responses.project.ProjectSummaryResponse;
 import com.org.group.role.Role;
+import com.org.group.services.Analyzer.AnalyzerWorkloadIndex;
 import com.org.group.services.emailAndJwt.PlanFilterServices;
 import com.org.group.services.emailAndJwt.EmailService;
+import com.org.group.services.emailAndJwt.EmailTemplateService;
 import com.org.group.subscription.SubscriptionPlan;
 import com.org.group.subscription.SubscriptionStatus;
-import jakarta.mail.MessagingException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -45,6 +52,13 @@ import com.org.group.dto.admin.AssignedProjectDto;
 @RequiredArgsConstructor
 public class AdminServices {
 
+    // API sort keys mapped to Users properties; anything else is rejected
+    private static final Map<String, String> CLIENT_SORT_PROPERTIES = Map.of(
+            "name", "name",
+            "email", "email",
+            "active", "isActive",
+            "subscribed", "subscribed");
+
     private final AnalyzerRepository analyzerRepository;
     private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
@@ -54,6 +68,9 @@ public class AdminServices {
     private final UserRepository userRepository;
     private final PlanFilterServices planFilterServices;
     private final EmailService emailService;
+    private final PrincipalCache principalCache;
+    private final EmailTemplateService emailTemplateService;
+    private final AnalyzerWorkloadIndex analyzerWorkloadIndex;
 
     private void validateUserDoesNotExist(String email, String phone, String nationalId) {
         // Check if email exists in analyzer table
@@ -113,6 +130,7 @@ public class AdminServices {
                 .nationality(analyzerDto.getNationality())
                 .build();
         analyzerRepository.save(analyzer);
+        analyzerWorkloadIndex.invalidate();
 
         Users newUser = Users.builder()
                 .name(analyzerDto.getName())
@@ -139,12 +157,7 @@ public class AdminServices {
 
         newUser.setSubscriptions(Set.of(defaultSubscription));
         userRepository.save(newUser);
-        try {
-            sendAnalyzerWelcomeEmail(analyzer, analyzerDto.getPassword());
-        } catch (MessagingException e) {
-            // Log the error but don't fail the registration
-            System.err.println("Failed to send welcome email to analyzer: " + e.getMessage());
-        }
+        sendAnalyzerWelcomeEmail(analyzer);
     }
 
     public void updateAnalyzer(UUID analyzerId, UpdateAnalyzerDto analyzerDto) {
@@ -194,6 +207,8 @@ public class AdminServices {
         }
 
         analyzerRepository.save(existingAnalyzer);
+        principalCache.evict(existingAnalyzer.getEmail());
+        analyzerWorkloadIndex.invalidate();
     }
     public String enableOrDisableAnalyzer(UUID analyzerId) {
         Analyzer analyzer = analyzerRepository.findById(analyzerId)
@@ -204,6 +219,8 @@ public class AdminServices {
             analyzer.setEnabled(true);
         }
         analyzerRepository.save(analyzer);
+        principalCache.evict(analyzer.getEmail());
+        analyzerWorkloadIndex.invalidate();
 
         return "Action Successful";
     }
@@ -260,6 +277,7 @@ public class AdminServices {
                 orElseThrow(() -> new EntityNotFoundException("Launch project not found"));
         launchProject.setStatus(AnalyticStatus.APPROVED);
         launchProjectRepository.save(launchProject);
+        analyzerWorkloadIndex.invalidate();
         return "Approved";
     }
 
@@ -308,152 +326,16 @@ public class AdminServices {
 
         return ResponseEntity.ok(pendingProjects);
     }
-    public ResponseEntity<List<LaunchProjectResponse>> getAllPendingProject() {
-        List<LaunchProject> projects = launchProjectRepository.findAll();
-
-        List<LaunchProjectResponse> pendingProjects = projects.stream()
-                .filter(project -> "PENDING".equalsIgnoreCase(project.getStatus().toString())) // adjust the value based on your enum or constant
-                .map(project -> LaunchProjectResponse.builder()
-                        .balanceSheetUrl(project.getBalanceSheetUrl())
-                        .projectId(project.getProjectId())
-                        .businessIdea(project.getBusinessIdea())
-                        .businessPlanUrl(project.getBusinessPlanUrl())
-                        .businessIdeaDocumentUrl(project.getBusinessIdeaDocumentUrl())
-                        .clientName(project.getClientName())
-                        .category(project.getCategory())
-                        .description(project.getDescription())
-                        .cashFlowUrl(project.getCashFlowUrl())
-                        .status(project.getStatus())
-                        .professionalStatus(project.getProfessionalStatus())
-                        .projectName(project.getProjectName())
-                        .haveSponsorQ(project.getHaveSponsorQ())
-                        .projectPurpose(project.getProjectPurpose())
-                        .projectLocation(project.getProjectLocation())
-                        .projectPhotoUrl(project.getProjectPhotoUrl())
-                        .doSellProjectQ(project.getDoSellProjectQ())
-                        .submittedOn(project.getSubmittedOn())
-                        .projectAmount(project.getProjectAmount())
-                        .needOrgQ(project.getNeedOrgQ())
-                        .pitchingVideoUrl(project.getPitchingVideoUrl())
-                        .sponsorName(project.getSponsorName())
-                        .website(project.getWebsite())
-                        .incomeStatementUrl(project.getIncomeStatementUrl())
-                        .prototypeLink(project.getPrototypeLink())
-                        .projectStatus(project.getProjectStatus())
-                        .updatedOn(project.getUpdatedOn())
-                        .linkedIn(project.getLinkedIn())
-                        .monthlyIncome(project.getMonthlyIncome())
-                        .specialityOfProject(project.getSpecialityOfProject())
-                        .phone(project.getPhone())
-                        .needSponsorQ(project.getNeedSponsorQ())
-                        .numberOfEmp(project.getNumberOfEmp())
-                        .wantOriginToBusinessPlanQ(project.getWantOriginToBusinessPlanQ())
-                        .intellectualProjectQ(project.getIntellectualProjectQ())
-                        .email(project.getEmail())
-                        .build())
-                .toList();
 
-        return ResponseEntity.ok(pendingProjects);
+    public PageResponse<ProjectSummaryResponse> getAllPendingProject(int page, int size) {
+        return PageResponse.from(launchProjectRepository.findSummaryPageByStatus(AnalyticStatus.PENDING, Paging.of(page, size)));
     }
-    public ResponseEntity<List<LaunchedProjectAnalyticsResponse>> getAllPendingAndHaveAnalytics() {
-        List<LaunchProject> projects = launchProjectRepository.findAll();
-
-       if(projects.isEmpty()) {
-           return ResponseEntity.noContent().build();
-       }
-
-        List<LaunchedProjectAnalyticsResponse> pendingProjects = projects.stream()
-                .filter(project -> "PENDING".equalsIgnoreCase(project.getStatus().toString()) && project.getAnalyticProject() != null && project.getAnalyticProject().isAnalyticsEnabled()) // adjust the value based on your enum or constant
-                .map(project -> LaunchedProjectAnalyticsResponse.builder()
-                        .balanceSheetUrl(project.getBalanceSheetUrl())
-                        .projectId(project.getProjectId())
-                        .businessIdea(project.getBusinessIdea())
-                        .businessPlanUrl(project.getBusinessPlanUrl())
-                        .businessIdeaDocumentUrl(project.getBusinessIdeaDocumentUrl())
-                        .clientName(project.getClientName())
-                        .category(project.getCategory())
-                        .description(project.getDescription())
-                        .cashFlowUrl(project.getCashFlowUrl())
-                        .status(project.getStatus())
-                        .professionalStatus(project.getProfessionalStatus())
-                        .projectName(project.getProjectName())
-                        .haveSponsorQ(project.getHaveSponsorQ())
-                        .projectPurpose(project.getProjectPurpose())
-                        .projectLocation(project.getProjectLocation())
-                        .projectPhotoUrl(project.getProjectPhotoUrl())
-                        .doSellProjectQ(project.getDoSellProjectQ())
-                        .submittedOn(project.getSubmittedOn())
-                        .projectAmount(project.getProjectAmount())
-                        .needOrgQ(project.getNeedOrgQ())
-                        .pitchingVideoUrl(project.getPitchingVideoUrl())
-                        .sponsorName(project.getSponsorName())
-                        .website(project.getWebsite())
-                        .incomeStatementUrl(project.getIncomeStatementUrl())
-                        .prototypeLink(project.getPrototypeLink())
-                        .projectStatus(project.getProjectStatus())
-                        .updatedOn(project.getUpdatedOn())
-                        .linkedIn(project.getLinkedIn())
-                        .monthlyIncome(project.getMonthlyIncome())
-                        .specialityOfProject(project.getSpecialityOfProject())
-                        .phone(project.getPhone())
-                        .needSponsorQ(project.getNeedSponsorQ())
-                        .numberOfEmp(project.getNumberOfEmp())
-                        .wantOriginToBusinessPlanQ(project.getWantOriginToBusinessPlanQ())
-                        .intellectualProjectQ(project.getIntellectualProjectQ())
-                        .email(project.getEmail())
-                        .build())
-                .toList();
 
-        return ResponseEntity.ok(pendingProjects);
+    public PageResponse<ProjectSummaryResponse> getAllPendingAndHaveAnalytics(int page, int size) {
+        return PageResponse.from(launchProjectRepository
+                .findSummaryPageByStatusWithEnabledAnalytics(AnalyticStatus.PENDING, Paging.of(page, size)));
     }
 
-    public ResponseEntity<List<LaunchProjectResponse>> getAllApprovedProject() {
-        List<LaunchProject> projects = launchProjectRepository.findAll();
-
-        List<LaunchProjectResponse> pendingProjects = projects.stream()
-                .filter(project -> "APPROVED".equalsIgnoreCase(project.getStatus().toString())) // adjust the value based on your enum or constant
-                .map(project -> LaunchProjectResponse.builder()
-                        .balanceSheetUrl(project.getBalanceSheetUrl())
-                        .projectId(project.getProjectId())
-                        .businessIdea(project.getBusinessIdea())
-                        .businessPlanUrl(project.getBusinessPlanUrl())
-                        .businessIdeaDocumentUrl(project.getBusinessIdeaDocumentUrl())
-                        .clientName(project.getClientName())
-                        .category(project.getCategory())
-                        .description(project.getDescription())
-                        .cashFlowUrl(project.getCashFlowUrl())
-                        .status(project.getStatus())
-                        .professionalStatus(project.getProfessionalStatus())
-                        .projectName(project.getProjectName())
-                        .haveSponsorQ(project.getHaveSponsorQ())
-                        .projectPurpose(project.getProjectPurpose())
-                        .projectLocation(project.getProjectLocation())
-                        .projectPhotoUrl(project.getProjectPhotoUrl())
-                        .doSellProjectQ(project.getDoSellProjectQ())
-                        .submittedOn(project.getSubmittedOn())
-                        .projectAmount(project.getProjectAmount())
-                        .needOrgQ(project.getNeedOrgQ())
-                        .pitchingVideoUrl(project.getPitchingVideoUrl())
-                        .sponsorName(project.getSponsorName())
-                        .website(project.getWebsite())
-                        .incomeStatementUrl(project.getIncomeStatementUrl())
-                        .prototypeLink(project.getPrototypeLink())
-                        .projectStatus(project.getProjectStatus())
-                        .updatedOn(project.getUpdatedOn())
-                        .linkedIn(project.getLinkedIn())
-                        .monthlyIncome(project.getMonthlyIncome())
-                        .specialityOfProject(project.getSpecialityOfProject())
-                        .phone(project.getPhone())
-                        .needSponsorQ(project.getNeedSponsorQ())
-                        .numberOfEmp(project.getNumberOfEmp())
-                        .wantOriginToBusinessPlanQ(project.getWantOriginToBusinessPlanQ())
-                        .intellectualProjectQ(project.getIntellectualProjectQ())
-                        .email(project.getEmail())
-                        .build())
-                .toList();
-
-        return ResponseEntity.ok(pendingProjects);
-    }
 
     public List<AnalyzerInfoDto> getAllAnalyzersInfo() {
         return analyzerRepository.findAll().stream()
@@ -505,10 +387,11 @@ public class AdminServices {
 
     public List<ClientResponseDto> getAllClient() {
         List<Users> users = userRepository.findAll();
+        Map<UUID, SubscriptionPlan> plans = planFilterServices.getEffectivePlans(users.stream().map(Users::getId).toList());
         List<ClientResponseDto> clients = users.stream().map(
 
                 client->{
-                    String filteredPlan = planFilterServices.getPlanFiltered(client);
+                    String filteredPlan = plans.get(client.getId()).name();
                      return ClientResponseDto.builder()
                             .id(client.getId())
                             .name(client.getName())
@@ -533,10 +416,58 @@ public class AdminServices {
         return clients;
     }
 
-    private void sendAnalyzerWelcomeEmail(Analyzer analyzer, String plainPassword) throws MessagingException {
+    // Paged admin directory: filtering, sorting and plan resolution all happen in the database
+    public PageResponse<ClientResponseDto> getClientPage(String search, Boolean active, SubscriptionPlan plan,
+                                                         int page, int size, String sortBy, String direction) {
+        String property = CLIENT_SORT_PROPERTIES.get(sortBy);
+        if (property == null) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+        }
+        Sort sort = Sort.by(Sort.Direction.fromString(direction), property).and(Sort.by("id"));
+        Page<ClientRow> rows = userRepository.findClientPage(
+                toPrefixPattern(search), active, plan == null ? null : plan.ordinal(), Paging.of(page, size, sort));
+
+        Map<UUID, Set<Role>> roles = new HashMap<>();
+        if (rows.hasContent()) {
+            for (Object[] row : userRepository.findRolesByUserIds(rows.map(ClientRow::id).getContent())) {
+                roles.computeIfAbsent((UUID) row[0], id -> EnumSet.noneOf(Role.class)).add((Role) row[1]);
+            }
+        }
+        SubscriptionPlan[] plans = SubscriptionPlan.values();
+        return PageResponse.from(rows.map(client -> ClientResponseDto.builder()
+                .id(client.id())
+                .name(client.name())
+                .email(client.email())
+                .phone(client.phone())
+                .enabled(client.enabled())
+                .isActive(client.isActive())
+                .nationalId(client.nationalId())
+                .gender(client.gender())
+                .photoUrl(client.photoUrl())
+                .professional(client.professional())
+                .tempEmail(client.tempEmail())
+                .roles(roles.getOrDefault(client.id(), Set.of()))
+                .subscribed(client.subscribed())
+                .nationality(client.nationality())
+                .currentSubscription(plans[client.planRank()].name())
+                .build()));
+    }
+
+    // lower-cased LIKE prefix with the wildcards of the search text escaped ('!' is the escape character)
+    private static String toPrefixPattern(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        return search.trim().toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
+    }
+
+    private void sendAnalyzerWelcomeEmail(Analyzer analyzer) {
         String subject = "Welcome to Origin Group - Your Analyzer Account";
-        String htmlMessage = createAnalyzerWelcomeEmailContent(analyzer, plainPassword);
-        emailService.sendVerificationEmail(analyzer.getEmail(), subject, htmlMessage);
+        String htmlMessage = createAnalyzerWelcomeEmailContent(analyzer);
+        emailService.queueEmail(analyzer.getEmail(), subject, htmlMessage);
     }
 
     public void deleteAnalyzer(UUID analyzerId) {
@@ -554,51 +485,15 @@ public class AdminServices {
         
         // Delete the analyzer
         analyzerRepository.delete(analyzer);
+        principalCache.evict(analyzer.getEmail());
+        analyzerWorkloadIndex.invalidate();
     }
 
-    private String createAnalyzerWelcomeEmailContent(Analyzer analyzer, String plainPassword) {
-        return "<html>" +
-                "<head>" +
-                "<style>" +
-                "  body { font-family: Arial, sans-serif; background-color: #f7f7f7; margin: 0; padding: 0; }" +
-                "  .email-container { max-width: 600px; margin: 0 auto; background-color: #ffffff; border-radius: 8px; overflow: hidden; box-shadow: 0 4px 12px rgba(0, 0, 0, 0.1); }" +
-                "  .header { background-color: #131b5a; color: #ffffff; text-align: center; padding: 20px; }" +
-                "  .header h1 { margin: 0; font-size: 24px; font-weight: bold; }" +
-                "  .content { padding: 30px; text-align: center; }" +
-                "  .content h2 { color: #333333; font-size: 20px; margin-bottom: 20px; }" +
-                "  .credentials { background-color: #f0f0f0; padding: 20px; border-radius: 6px; margin: 20px 0; text-align: left; }" +
-                "  .credentials h3 { color: #131b5a; margin-top: 0; }" +
-                "  .credentials p { margin: 10px 0; font-size: 16px; }" +
-                "  .login-button { display: inline-block; background-color: #131b5a; color: #ffffff; padding: 15px 30px; text-decoration: none; border-radius: 6px; font-weight: bold; margin: 20px 0; }" +
-                "  .login-button:hover { background-color: #0f1447; }" +
-                "  .footer { text-align: center; padding: 20px; font-size: 14px; color: #666666; background-color: #fbdfb8; }" +
-                "  .footer a { color: #007bff; text-decoration: none; }" +
-                "</style>" +
-                "</head>" +
-                "<body>" +
-                "<div class='email-container'>" +
-                "  <div class='header'>" +
-                "    <h1>Welcome to Origin Group</h1>" +
-                "  </div>" +
-                "  <div class='content'>" +
-                "    <h2>Your Analyzer Account is Ready!</h2>" +
-                "    <p>Dear " + analyzer.getName() + ",</p>" +
-                "    <p>Welcome to Origin Group! Your analyzer account has been successfully created.</p>" +
-                "    <div class='credentials'>" +
-                "      <h3>Your Login Credentials:</h3>" +
-                "      <p><strong>Email:</strong> " + analyzer.getEmail() + "</p>" +
-                "      <p><strong>Password:</strong> " + plainPassword + "</p>" +
-                "    </div>" +
-                "    <p>Please use these credentials to log in to your account and start analyzing projects.</p>" +
-                "    <a href='https://orgin-group-analyzer.vercel.app/' class='login-button'>Login to Your Account</a>" +
-                "    <p><small>If the button doesn't work, copy and paste this link: <a href='http://localhost:4201/login'>http://localhost:4201/login</a></small></p>" +
-                "  </div>" +
-                "  <div class='footer'>" +
-                "    <p>Need help? <a href='mailto:origin@group.com'>Contact Support</a></p>" +
-                "    <p>&copy; 2025 Origin Group. All rights reserved.</p>" +
-                "  </div>" +
-                "</div>" +
-                "</body>" +
-                "</html>";
+    // The password is never emailed: the outbox stores the rendered body, so the analyzer sets their own
+    private String createAnalyzerWelcomeEmailContent(Analyzer analyzer) {
+        return emailTemplateService.render(EmailTemplateService.ANALYZER_WELCOME, "Welcome to Origin Group",
+                EmailTemplateService.model(
+                        "name", analyzer.getName(),
+                        "email", analyzer.getEmail()));
     }
 }
@@ -1,9 +1,13 @@
 package com.org.group.services.Analyzer;
 
 import com.org.group.dto.LaunchProject.AnalyticStatus;
+import com.org.group.dto.Paging;
 import com.org.group.dto.admin.AnalyzerInfoDto;
+import com.org.group.dto.admin.AnalyzerLoadRow;
+import com.org.group.dto.admin.BulkAssignmentDto;
 import com.org.group.dto.analytics.AnalyticsDto;
 import com.org.group.dto.analytics.AnalyticsResponseDto;
+import com.org.group.dto.userResponse.ProjectStatusRow;
 import com.org.group.model.analyzer.AnalyticProject;
 import com.org.group.model.analyzer.AnalyticsFeedback;
 import com.org.group.model.analyzer.Analyzer;
@@ -14,23 +18,46 @@ import com.org.group.repository.analytics.AnalyticProjectRepository;
 import com.org.group.repository.analytics.AnalyticsFeedbackRepository;
 import com.org.group.repository.analytics.AssignmentRepository;
 import com.org.group.repository.project.LaunchProjectRepository;
-import com.org.group.responses.project.LaunchProjectResponse;
+import com.org.group.responses.PageResponse;
+import com.org.group.responses.project.BulkAssignmentResponse;
+import com.org.group.responses.project.ProjectSummaryResponse;
 import com.org.group.services.UploadFileServices.CloudinaryService;
 import com.org.group.services.UploadFileServices.FileStorageService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AnalyzerServices {
+
+    public static final int MAX_ANALYZERS_PER_PROJECT = 5;
+    private static final int MAX_BULK_ASSIGNMENTS = 500;
+    private static final String PROJECT_NOT_FOUND = "Project not found";
+    private static final String ANALYZER_NOT_FOUND = "Analyzer not found";
+    private static final String ALREADY_ASSIGNED = "This project is already assigned to this analyzer";
+    private static final String CAP_REACHED = "Project cannot be assigned to more than " + MAX_ANALYZERS_PER_PROJECT + " analyzers";
+
     private final LaunchProjectRepository launchProjectRepository;
     private final AnalyzerRepository analyzerRepository;
     private final AssignmentRepository assignmentRepository;
@@ -38,155 +65,144 @@ public class AnalyzerServices {
     private final CloudinaryService cloudinaryService;
     private final AnalyticProjectRepository analyticsRepository;
     private final AnalyticsFeedbackRepository  feedbackRepository;
-    public ResponseEntity<List<LaunchProjectResponse>> getAllPendingProject() {
-        List<LaunchProject> projects = launchProjectRepository.findAll();
-
-        List<LaunchProjectResponse> pendingProjects = projects.stream()
-                .filter(project -> "PENDING".equalsIgnoreCase(project.getStatus().toString())) // adjust the value based on your enum or constant
-                .map(project -> LaunchProjectResponse.builder()
-                        .balanceSheetUrl(project.getBalanceSheetUrl())
-                        .projectId(project.getProjectId())
-                        .businessIdea(project.getBusinessIdea())
-                        .businessPlanUrl(project.getBusinessPlanUrl())
-                        .businessIdeaDocumentUrl(project.getBusinessIdeaDocumentUrl())
-                        .clientName(project.getClientName())
-                        .category(project.getCategory())
-                        .description(project.getDescription())
-                        .cashFlowUrl(project.getCashFlowUrl())
-                        .status(project.getStatus())
-                        .professionalStatus(project.getProfessionalStatus())
-                        .projectName(project.getProjectName())
-                        .haveSponsorQ(project.getHaveSponsorQ())
-                        .projectPurpose(project.getProjectPurpose())
-                        .projectLocation(project.getProjectLocation())
-                        .projectPhotoUrl(project.getProjectPhotoUrl())
-                        .doSellProjectQ(project.getDoSellProjectQ())
-                        .submittedOn(project.getSubmittedOn())
-                        .projectAmount(project.getProjectAmount())
-                        .needOrgQ(project.getNeedOrgQ())
-                        .pitchingVideoUrl(project.getPitchingVideoUrl())
-                        .sponsorName(project.getSponsorName())
-                        .website(project.getWebsite())
-                        .incomeStatementUrl(project.getIncomeStatementUrl())
-                        .prototypeLink(project.getPrototypeLink())
-                        .projectStatus(project.getProjectStatus())
-                        .updatedOn(project.getUpdatedOn())
-                        .linkedIn(project.getLinkedIn())
-                        .monthlyIncome(project.getMonthlyIncome())
-                        .specialityOfProject(project.getSpecialityOfProject())
-                        .phone(project.getPhone())
-                        .needSponsorQ(project.getNeedSponsorQ())
-                        .numberOfEmp(project.getNumberOfEmp())
-                        .wantOriginToBusinessPlanQ(project.getWantOriginToBusinessPlanQ())
-                        .intellectualProjectQ(project.getIntellectualProjectQ())
-                        .email(project.getEmail())
-                        .build())
-                .toList();
-
-        return ResponseEntity.ok(pendingProjects);
+    private final AnalyzerWorkloadIndex workloadIndex;
+    // analyzers a newly PENDING project is given automatically; 0 turns auto-assignment off
+    @Value("${assignment.auto.analyzers-per-project:1}")
+    private int autoAssignAnalyzers;
+    public PageResponse<ProjectSummaryResponse> getAllPendingProject(int page, int size) {
+        return PageResponse.from(launchProjectRepository.findSummaryPageByStatus(AnalyticStatus.PENDING, Paging.of(page, size)));
     }
 
-    public void assignProject(UUID projectId, UUID analyzerId) {
-        LaunchProject project = launchProjectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
-
-        Analyzer analyzer = analyzerRepository.findById(analyzerId)
-                .orElseThrow(() -> new IllegalArgumentException("Analyzer not found"));
 
-        // ✅ Check if the assignment already exists
-        if (assignmentRepository.existsByProject_ProjectIdAndAnalyzer_Id(projectId, analyzerId)) {
-            throw new IllegalArgumentException("This project is already assigned to this analyzer");
+    // Assign one project to one analyzer; reports why it could not be done as an IllegalArgumentException
+    @Transactional
+    public void assignProject(UUID projectId, UUID analyzerId) {
+        AnalyticStatus status = findStatuses(List.of(projectId)).get(projectId);
+        if (status == null) {
+            throw new IllegalArgumentException(PROJECT_NOT_FOUND);
         }
-
-        // ✅ Enforce max assignment rule
-        if (project.getCountAssignment() >= 5) {
-            throw new IllegalArgumentException("Project cannot be assigned to more than 5 analyzers");
+        if (!analyzerRepository.existsById(analyzerId)) {
+            throw new IllegalArgumentException(ANALYZER_NOT_FOUND);
         }
+        String skipped = assign(projectId, analyzerId, status == AnalyticStatus.PENDING);
+        if (skipped != null) {
+            throw new IllegalArgumentException(skipped);
+        }
+    }
 
-        // Proceed with assignment
-        project.setCountAssignment(project.getCountAssignment() + 1);
-
-        Assignment assignment = Assignment.builder()
-                .analyzer(analyzer)
-                .project(project)
+    // Assigns every project to every analyzer in one transaction; pairs that cannot be assigned are reported, not fatal
+    @Transactional
+    public BulkAssignmentResponse assignProjects(BulkAssignmentDto bulkAssignmentDto) {
+        Set<UUID> projectIds = new LinkedHashSet<>(bulkAssignmentDto.getProjectIds());
+        Set<UUID> analyzerIds = new LinkedHashSet<>(bulkAssignmentDto.getAnalyzerIds());
+        if (projectIds.size() * analyzerIds.size() > MAX_BULK_ASSIGNMENTS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_ASSIGNMENTS + " project/analyzer pairs can be assigned at once");
+        }
+        Map<UUID, AnalyticStatus> knownProjects = findStatuses(projectIds);
+        Set<UUID> knownAnalyzers = new HashSet<>(analyzerRepository.findExistingIds(analyzerIds));
+
+        int assigned = 0;
+        List<BulkAssignmentResponse.SkippedAssignment> skipped = new ArrayList<>();
+        for (UUID projectId : projectIds) {
+            for (UUID analyzerId : analyzerIds) {
+                String reason;
+                if (!knownProjects.containsKey(projectId)) {
+                    reason = PROJECT_NOT_FOUND;
+                } else if (!knownAnalyzers.contains(analyzerId)) {
+                    reason = ANALYZER_NOT_FOUND;
+                } else {
+                    reason = assign(projectId, analyzerId, knownProjects.get(projectId) == AnalyticStatus.PENDING);
+                }
+                if (reason == null) {
+                    assigned++;
+                } else {
+                    skipped.add(new BulkAssignmentResponse.SkippedAssignment(projectId, analyzerId, reason));
+                }
+            }
+        }
+        return BulkAssignmentResponse.builder()
+                .assigned(assigned)
+                .skipped(skipped)
                 .build();
+    }
 
-        assignmentRepository.save(assignment);
+    // Gives a PENDING project analyzers until it has autoAssignAnalyzers of them, picking the least loaded
+    // analyzers whose expertise matches the category first. Returns the analyzers that were added.
+    @Transactional
+    public List<UUID> autoAssignProject(UUID projectId) {
+        String category = launchProjectRepository.findCategoryByIdAndStatus(projectId, AnalyticStatus.PENDING).orElse(null);
+        if (category == null) {
+            return List.of();
+        }
+        List<UUID> current = assignmentRepository.findAnalyzerIdsByProjectId(projectId);
+        int wanted = Math.min(autoAssignAnalyzers, MAX_ANALYZERS_PER_PROJECT) - current.size();
+        if (wanted <= 0) {
+            return List.of();
+        }
+        List<UUID> assigned = new ArrayList<>();
+        for (UUID analyzerId : workloadIndex.pick(category, wanted, current)) {
+            if (assign(projectId, analyzerId, true) == null) {
+                assigned.add(analyzerId);
+            }
+        }
+        if (assigned.isEmpty()) {
+            log.info("No analyzer available to auto-assign project {}", projectId);
+        }
+        return assigned;
     }
 
-    public String unassignProject(UUID projectId, UUID analyzerId) {
-        LaunchProject project = launchProjectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+    public List<AnalyzerLoadRow> getAnalyzerWorkloads() {
+        return workloadIndex.getLoads();
+    }
 
-        // Verify analyzer exists
-        analyzerRepository.findById(analyzerId)
-                .orElseThrow(() -> new IllegalArgumentException("Analyzer not found"));
+    // Returns null when the pair was assigned, otherwise why it was skipped.
+    // The slot is taken with a guarded update on the project row, so concurrent callers cannot pass the cap.
+    private String assign(UUID projectId, UUID analyzerId, boolean pending) {
+        if (assignmentRepository.insertIfAbsent(projectId, analyzerId) == 0) {
+            return ALREADY_ASSIGNED;
+        }
+        if (launchProjectRepository.reserveAssignmentSlot(projectId, MAX_ANALYZERS_PER_PROJECT) == 0) {
+            assignmentRepository.deleteByProjectAndAnalyzer(projectId, analyzerId);
+            return CAP_REACHED;
+        }
+        if (pending) {
+            workloadIndex.assignmentAdded(analyzerId);
+        }
+        return null;
+    }
 
-        // Check if the assignment exists
-        if (!assignmentRepository.existsByProject_ProjectIdAndAnalyzer_Id(projectId, analyzerId)) {
+    @Transactional
+    public String unassignProject(UUID projectId, UUID analyzerId) {
+        if (assignmentRepository.deleteByProjectAndAnalyzer(projectId, analyzerId) == 0) {
             throw new IllegalArgumentException("No assignment found between this project and analyzer");
         }
-
-        // Find and delete the assignment
-        Assignment assignment = assignmentRepository.findByProject_ProjectIdAndAnalyzer_Id(projectId, analyzerId)
-                .orElseThrow(() -> new IllegalArgumentException("Assignment not found"));
-
-        // Decrease assignment count
-        if (project.getCountAssignment() > 0) {
-            project.setCountAssignment(project.getCountAssignment() - 1);
-            launchProjectRepository.save(project);
+        launchProjectRepository.releaseAssignmentSlot(projectId);
+        if (findStatuses(List.of(projectId)).get(projectId) == AnalyticStatus.PENDING) {
+            workloadIndex.assignmentRemoved(analyzerId);
         }
-
-        assignmentRepository.delete(assignment);
-        
         return "Project unassigned from analyzer successfully";
     }
 
-    public ResponseEntity<List<LaunchProjectResponse>> getAllAssignedProject(UUID analyzerId) {
-        List<LaunchProject> projects = assignmentRepository.findPendingProjectsByAnalyzerId(analyzerId);
-
-        List<LaunchProjectResponse> responseList = projects.stream()
-                .map(project -> LaunchProjectResponse.builder()
-                        .balanceSheetUrl(project.getBalanceSheetUrl())
-                        .projectId(project.getProjectId())
-                        .businessIdea(project.getBusinessIdea())
-                        .businessPlanUrl(project.getBusinessPlanUrl())
-                        .businessIdeaDocumentUrl(project.getBusinessIdeaDocumentUrl())
-                        .clientName(project.getClientName())
-                        .category(project.getCategory())
-                        .description(project.getDescription())
-                        .cashFlowUrl(project.getCashFlowUrl())
-                        .status(project.getStatus())
-                        .professionalStatus(project.getProfessionalStatus())
-                        .projectName(project.getProjectName())
-                        .haveSponsorQ(project.getHaveSponsorQ())
-                        .projectPurpose(project.getProjectPurpose())
-                        .projectLocation(project.getProjectLocation())
-                        .projectPhotoUrl(project.getProjectPhotoUrl())
-                        .doSellProjectQ(project.getDoSellProjectQ())
-                        .submittedOn(project.getSubmittedOn())
-                        .projectAmount(project.getProjectAmount())
-                        .needOrgQ(project.getNeedOrgQ())
-                        .pitchingVideoUrl(project.getPitchingVideoUrl())
-                        .sponsorName(project.getSponsorName())
-                        .website(project.getWebsite())
-                        .incomeStatementUrl(project.getIncomeStatementUrl())
-                        .prototypeLink(project.getPrototypeLink())
-                        .projectStatus(project.getProjectStatus())
-                        .updatedOn(project.getUpdatedOn())
-                        .linkedIn(project.getLinkedIn())
-                        .monthlyIncome(project.getMonthlyIncome())
-                        .specialityOfProject(project.getSpecialityOfProject())
-                        .phone(project.getPhone())
-                        .needSponsorQ(project.getNeedSponsorQ())
-                        .numberOfEmp(project.getNumberOfEmp())
-                        .wantOriginToBusinessPlanQ(project.getWantOriginToBusinessPlanQ())
-                        .intellectualProjectQ(project.getIntellectualProjectQ())
-                        .email(project.getEmail())
-                        .build())
-                .toList();
+    private Map<UUID, AnalyticStatus> findStatuses(Collection<UUID> projectIds) {
+        return launchProjectRepository.findStatusRowsByIds(projectIds).stream()
+                .collect(Collectors.toMap(ProjectStatusRow::id, ProjectStatusRow::status));
+    }
+
+    // count_assignment used to be maintained with lost-update prone entity saves; realign it once per start
+    @EventListener(ApplicationReadyEvent.class)
+    public void resyncAssignmentCounts() {
+        try {
+            int fixed = launchProjectRepository.resyncAssignmentCounts();
+            if (fixed > 0) {
+                log.info("Realigned assignment count of {} launch project(s)", fixed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not realign launch project assignment counts", e);
+        }
+    }
 
-        return ResponseEntity.ok(responseList);
+    public PageResponse<ProjectSummaryResponse> getAssignedProjects(UUID analyzerId, int page, int size) {
+        return PageResponse.from(assignmentRepository.findInboxPage(analyzerId, AnalyticStatus.PENDING, Paging.of(page, size)));
     }
 
 
@@ -306,6 +322,7 @@ public class AnalyzerServices {
 
         project.setStatus(AnalyticStatus.DECLINED);
         launchProjectRepository.save(project);
+        workloadIndex.invalidate();
 
         // Create and save new feedback
         AnalyticsFeedback analyticsFeedback = AnalyticsFeedback.builder()
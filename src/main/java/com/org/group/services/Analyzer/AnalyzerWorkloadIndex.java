@@ -0,0 +1,186 @@
+package com.org.group.services.Analyzer;
+
+import com.org.group.dto.LaunchProject.AnalyticStatus;
+import com.org.group.dto.admin.AnalyzerLoadRow;
+import com.org.group.repository.AnalyzerRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// In-memory priority queue of enabled analyzers ordered by open workload (assigned projects still PENDING).
+// Loaded with one grouped query, then kept current by assignmentAdded/assignmentRemoved; analyzer edits and
+// projects leaving PENDING call invalidate(), and a periodic reload corrects any drift from other writers.
+// Analyzers are also indexed per expertise keyword so a category match is found without scanning everyone.
+@Component
+public class AnalyzerWorkloadIndex {
+
+    private record Load(UUID analyzerId, String expertise, long openAssignments) {}
+
+    private static final Comparator<Load> LEAST_LOADED = Comparator.comparingLong(Load::openAssignments)
+            .thenComparing(Load::analyzerId);
+    private static final Pattern EXPERTISE_SEPARATOR = Pattern.compile("[,;/|]");
+
+    private final AnalyzerRepository analyzerRepository;
+    private final Map<UUID, Load> loads = new HashMap<>();
+    private final TreeSet<Load> queue = new TreeSet<>(LEAST_LOADED);
+    private final Map<String, TreeSet<Load>> queueByExpertise = new HashMap<>();
+    private boolean loaded;
+    // bumped on every reload or invalidation; a rollback compensation from an older generation is dropped
+    private long generation;
+
+    public AnalyzerWorkloadIndex(AnalyzerRepository analyzerRepository) {
+        this.analyzerRepository = analyzerRepository;
+    }
+
+    // Up to count analyzers for the category, least loaded first: expertise matches, then anyone else enabled
+    public synchronized List<UUID> pick(String category, int count, Collection<UUID> exclude) {
+        ensureLoaded();
+        List<UUID> picked = new ArrayList<>(count);
+        TreeSet<Load> experts = queueByExpertise.get(normalize(category));
+        if (experts != null) {
+            take(experts, count, exclude, picked);
+        }
+        take(queue, count, exclude, picked);
+        return picked;
+    }
+
+    // Snapshot of the queue, least loaded first
+    public synchronized List<AnalyzerLoadRow> getLoads() {
+        ensureLoaded();
+        return queue.stream()
+                .map(load -> new AnalyzerLoadRow(load.analyzerId(), load.expertise(), load.openAssignments()))
+                .toList();
+    }
+
+    // Called once an assignment row to a PENDING project is written; undone if the transaction rolls back
+    public void assignmentAdded(UUID analyzerId) {
+        adjustWithinTransaction(analyzerId, 1);
+    }
+
+    public void assignmentRemoved(UUID analyzerId) {
+        adjustWithinTransaction(analyzerId, -1);
+    }
+
+    public void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelay = 300_000)
+    public void refresh() {
+        clear();
+    }
+
+    private void adjustWithinTransaction(UUID analyzerId, long delta) {
+        long adjustedIn = adjust(analyzerId, delta);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        undo(analyzerId, -delta, adjustedIn);
+                    }
+                }
+            });
+        }
+    }
+
+    private synchronized long adjust(UUID analyzerId, long delta) {
+        Load current = loaded ? loads.get(analyzerId) : null;
+        if (current != null) {
+            replace(current, new Load(analyzerId, current.expertise(), Math.max(current.openAssignments() + delta, 0)));
+        }
+        return generation;
+    }
+
+    private synchronized void undo(UUID analyzerId, long delta, long adjustedIn) {
+        if (generation == adjustedIn) {
+            adjust(analyzerId, delta);
+        }
+    }
+
+    private synchronized void clear() {
+        generation++;
+        loaded = false;
+        loads.clear();
+        queue.clear();
+        queueByExpertise.clear();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        for (AnalyzerLoadRow row : analyzerRepository.findEnabledLoads(AnalyticStatus.PENDING)) {
+            add(new Load(row.analyzerId(), row.expertise(), row.openAssignments()));
+        }
+        loaded = true;
+    }
+
+    private void replace(Load current, Load updated) {
+        queue.remove(current);
+        for (String keyword : keywords(current.expertise())) {
+            queueByExpertise.get(keyword).remove(current);
+        }
+        add(updated);
+    }
+
+    private void add(Load load) {
+        loads.put(load.analyzerId(), load);
+        queue.add(load);
+        for (String keyword : keywords(load.expertise())) {
+            queueByExpertise.computeIfAbsent(keyword, key -> new TreeSet<>(LEAST_LOADED)).add(load);
+        }
+    }
+
+    private static void take(TreeSet<Load> candidates, int count, Collection<UUID> exclude, List<UUID> picked) {
+        for (Load load : candidates) {
+            if (picked.size() >= count) {
+                return;
+            }
+            if (!exclude.contains(load.analyzerId()) && !picked.contains(load.analyzerId())) {
+                picked.add(load.analyzerId());
+            }
+        }
+    }
+
+    // "Agriculture, Tech" is indexed under both keywords so either category finds the analyzer
+    private static Set<String> keywords(String expertise) {
+        if (expertise == null) {
+            return Set.of();
+        }
+        Set<String> keywords = new HashSet<>();
+        for (String part : EXPERTISE_SEPARATOR.split(expertise)) {
+            String keyword = normalize(part);
+            if (!keyword.isEmpty()) {
+                keywords.add(keyword);
+            }
+        }
+        return keywords;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
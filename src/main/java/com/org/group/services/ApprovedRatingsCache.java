@@ -0,0 +1,50 @@
+package com.org.group.services;
+
+import com.org.group.dto.userResponse.UserRatingResponse;
+import com.org.group.model.RattingStatus;
+import com.org.group.repository.UserRattingRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Testimonial wall shown on every public page. Loaded with one joined projection query and kept until
+// a rating is approved, rejected or resubmitted, or a rater changes the name / photo shown on it.
+@Component
+public class ApprovedRatingsCache {
+
+    private final UserRattingRepository userRattingRepository;
+    private volatile List<UserRatingResponse> approved;
+    private final CacheGeneration generation = new CacheGeneration();
+
+    public ApprovedRatingsCache(UserRattingRepository userRattingRepository) {
+        this.userRattingRepository = userRattingRepository;
+    }
+
+    public List<UserRatingResponse> getApproved() {
+        List<UserRatingResponse> cached = approved;
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (this) {
+            cached = approved;
+            if (cached != null) {
+                return cached;
+            }
+            long loadedAt = generation.current();
+            List<UserRatingResponse> loaded = userRattingRepository.findRowsByStatus(RattingStatus.APPROVED).stream()
+                    .map(row -> UserRatingResponse.builder()
+                            .userName(row.userName())
+                            .userPhoto(row.userPhoto())
+                            .message(row.message())
+                            .starNumber(row.starNumber())
+                            .build())
+                    .toList();
+            generation.storeIfCurrent(loadedAt, () -> approved = loaded);
+            return loaded;
+        }
+    }
+
+    public void invalidate() {
+        generation.invalidate(() -> approved = null);
+    }
+}
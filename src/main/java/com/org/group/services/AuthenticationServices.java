@@ -1,5 +1,6 @@
 package com.org.group.services;
 
+import com.org.group.config.PrincipalCache;
 import com.org.group.dto.userAuth.LoginUserDto;
 import com.org.group.dto.userAuth.RegisterUserDto;
 import com.org.group.dto.userAuth.ResetPasswordDto;
@@ -11,9 +12,9 @@ import com.org.group.repository.AnalyzerRepository;
 import com.org.group.repository.UserRepository;
 import com.org.group.role.Role;
 import com.org.group.services.emailAndJwt.EmailService;
+import com.org.group.services.emailAndJwt.EmailTemplateService;
 import com.org.group.subscription.SubscriptionPlan;
 import com.org.group.subscription.SubscriptionStatus;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -32,6 +33,8 @@ public class AuthenticationServices {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final EmailService emailService;
+    private final PrincipalCache principalCache;
+    private final EmailTemplateService emailTemplateService;
 
 
     public Users signup(RegisterUserDto input) {
@@ -163,48 +166,12 @@ public class AuthenticationServices {
 
     private void sendVerificationEmail(Users user) {
         String subject = "Account Verification";
-        String verificationCode = "VERIFICATION CODE " + user.getVerificationCode();
-        String htmlMessage = "<html>"
-                + "<head>"
-                + "<style>"
-                + "  body { font-family: 'Arial', sans-serif; background-color: #f7f7f7; margin: 0; padding: 0; }"
-                + "  .email-container { max-width: 600px; margin: 0 auto; background-color: #ffffff; border-radius: 8px; overflow: hidden; box-shadow: 0 4px 12px rgba(0, 0, 0, 0.1); }"
-                + "  .header { background-color: #131b5a; color: #ffffff; text-align: center; padding: 20px; }"
-                + "  .header h1 { margin: 0; font-size: 24px; font-weight: bold; }"
-                + "  .content { padding: 30px; text-align: center; }"
-                + "  .content h2 { color: #333333; font-size: 20px; margin-bottom: 20px; }"
-                + "  .verification-code { background-color: #f0f0f0; padding: 15px; border-radius: 6px; display: inline-block; margin: 20px 0; }"
-                + "  .verification-code p { margin: 0; font-size: 24px; font-weight: bold; color: #007bff; }"
-                + "  .footer { text-align: center; padding: 20px; font-size: 14px; color: #666666; background-color: #fbdfb8; }"
-                + "  .footer a { color: #007bff; text-decoration: none; }"
-                + "</style>"
-                + "</head>"
-                + "<body>"
-                + "<div class='email-container'>"
-                + "  <div class='header'>"
-                + "    <h1>WELCOME TO ORIGIN GROUP!</h1>"
-                + "  </div>"
-                + "  <div class='content'>"
-                + "    <h2>Please enter the verification code below to activate your account:</h2>"
-                + "    <div class='verification-code'>"
-                + "      <p>" + verificationCode + "</p>"
-                + "    </div>"
-                + "    <p>If you did not request this code, please ignore this email.</p>"
-                + "  </div>"
-                + "  <div class='footer'>"
-                + "    <p>Need help? <a href='mailto:origin@group.com'>Contact Support</a></p>"
-                + "    <p>&copy; 2025 Your Company. All rights reserved.</p>"
-                + "  </div>"
-                + "</div>"
-                + "</body>"
-                + "</html>";
+        String htmlMessage = emailTemplateService.render(EmailTemplateService.VERIFICATION_CODE, "WELCOME TO ORIGIN GROUP!",
+                EmailTemplateService.model(
+                        "instruction", "Please enter the verification code below to activate your account:",
+                        "code", "VERIFICATION CODE " + user.getVerificationCode()));
 
-        try {
-            emailService.sendVerificationEmail(user.getEmail(), subject, htmlMessage);
-        } catch (MessagingException e) {
-            // Handle email sending exception
-            e.printStackTrace();
-        }
+        emailService.queueEmail(user.getEmail(), subject, htmlMessage);
     }
 
     private String generateVerificationCode() {
@@ -269,6 +236,7 @@ public class AuthenticationServices {
             analyzer.setVerificationCode(null);
             analyzer.setCodeExpiryAt(null);
             analyzerRepository.save(analyzer);
+            principalCache.evict(analyzer.getEmail());
         }
 
 
@@ -286,98 +254,24 @@ public class AuthenticationServices {
             user.setVerificationCode(null);
             user.setCodeExpiryAt(null);
             userRepository.save(user);
+            principalCache.evict(user.getEmail());
         }
 
     }
 
 
     private void sendPasswordResetEmail(Users user, String resetCode) {
-        String subject = "Password Reset Request";
-        String htmlMessage = "<html>"
-                + "<head>"
-                + "<style>"
-                + "  body { font-family: 'Arial', sans-serif; background-color: #f7f7f7; margin: 0; padding: 0; }"
-                + "  .email-container { max-width: 600px; margin: 0 auto; background-color: #ffffff; border-radius: 8px; overflow: hidden; box-shadow: 0 4px 12px rgba(0, 0, 0, 0.1); }"
-                + "  .header { background-color: #131b5a; color: #ffffff; text-align: center; padding: 20px; }"
-                + "  .header h1 { margin: 0; font-size: 24px; font-weight: bold; }"
-                + "  .content { padding: 30px; text-align: center; }"
-                + "  .content h2 { color: #333333; font-size: 20px; margin-bottom: 20px; }"
-                + "  .verification-code { background-color: #f0f0f0; padding: 15px; border-radius: 6px; display: inline-block; margin: 20px 0; }"
-                + "  .verification-code p { margin: 0; font-size: 24px; font-weight: bold; color: #007bff; }"
-                + "  .footer { text-align: center; padding: 20px; font-size: 14px; color: #666666; background-color: #fbdfb8; }"
-                + "  .footer a { color: #007bff; text-decoration: none; }"
-                + "</style>"
-                + "</head>"
-                + "<body>"
-                + "<div class='email-container'>"
-                + "  <div class='header'>"
-                + "    <h1>Password Reset Request</h1>"
-                + "  </div>"
-                + "  <div class='content'>"
-                + "    <h2>Please enter the verification code below to reset your password:</h2>"
-                + "    <div class='verification-code'>"
-                + "      <p>" + resetCode + "</p>"
-                + "    </div>"
-                + "    <p>If you did not request this code, please ignore this email.</p>"
-                + "  </div>"
-                + "  <div class='footer'>"
-                + "    <p>Need help? <a href='mailto:origin@group.com'>Contact Support</a></p>"
-                + "    <p>&copy; 2025 Your Company. All rights reserved.</p>"
-                + "  </div>"
-                + "</div>"
-                + "</body>"
-                + "</html>";
-
-        try {
-            emailService.sendVerificationEmail(user.getEmail(), subject, htmlMessage);
-        } catch (MessagingException e) {
-            // Handle email sending exception
-            e.printStackTrace();
-        }
+        emailService.queueEmail(user.getEmail(), "Password Reset Request", createPasswordResetEmailContent(resetCode));
     }
     private void sendPasswordResetEmailAnalyzer(Analyzer analyzer, String resetCode) {
-        String subject = "Password Reset Request";
-        String htmlMessage = "<html>"
-                + "<head>"
-                + "<style>"
-                + "  body { font-family: 'Arial', sans-serif; background-color: #f7f7f7; margin: 0; padding: 0; }"
-                + "  .email-container { max-width: 600px; margin: 0 auto; background-color: #ffffff; border-radius: 8px; overflow: hidden; box-shadow: 0 4px 12px rgba(0, 0, 0, 0.1); }"
-                + "  .header { background-color: #131b5a; color: #ffffff; text-align: center; padding: 20px; }"
-                + "  .header h1 { margin: 0; font-size: 24px; font-weight: bold; }"
-                + "  .content { padding: 30px; text-align: center; }"
-                + "  .content h2 { color: #333333; font-size: 20px; margin-bottom: 20px; }"
-                + "  .verification-code { background-color: #f0f0f0; padding: 15px; border-radius: 6px; display: inline-block; margin: 20px 0; }"
-                + "  .verification-code p { margin: 0; font-size: 24px; font-weight: bold; color: #007bff; }"
-                + "  .footer { text-align: center; padding: 20px; font-size: 14px; color: #666666; background-color: #fbdfb8; }"
-                + "  .footer a { color: #007bff; text-decoration: none; }"
-                + "</style>"
-                + "</head>"
-                + "<body>"
-                + "<div class='email-container'>"
-                + "  <div class='header'>"
-                + "    <h1>Password Reset Request</h1>"
-                + "  </div>"
-                + "  <div class='content'>"
-                + "    <h2>Please enter the verification code below to reset your password:</h2>"
-                + "    <div class='verification-code'>"
-                + "      <p>" + resetCode + "</p>"
-                + "    </div>"
-                + "    <p>If you did not request this code, please ignore this email.</p>"
-                + "  </div>"
-                + "  <div class='footer'>"
-                + "    <p>Need help? <a href='mailto:origin@group.com'>Contact Support</a></p>"
-                + "    <p>&copy; 2025 Your Company. All rights reserved.</p>"
-                + "  </div>"
-                + "</div>"
-                + "</body>"
-                + "</html>";
+        emailService.queueEmail(analyzer.getEmail(), "Password Reset Request", createPasswordResetEmailContent(resetCode));
+    }
 
-        try {
-            emailService.sendVerificationEmail(analyzer.getEmail(), subject, htmlMessage);
-        } catch (MessagingException e) {
-            // Handle email sending exception
-            e.printStackTrace();
-        }
+    private String createPasswordResetEmailContent(String resetCode) {
+        return emailTemplateService.render(EmailTemplateService.VERIFICATION_CODE, "Password Reset Request",
+                EmailTemplateService.model(
+                        "instruction", "Please enter the verification code below to reset your password:",
+                        "code", resetCode));
     }
     public void verifyForgot(String code) {
         Optional<Users> optionalUser = userRepository.findByVerificationCode(code);
@@ -0,0 +1,126 @@
+package com.org.group.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.group.model.Blog;
+import com.org.group.model.BlogStatus;
+import com.org.group.repository.BlogRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Versioned cache of the public blog JSON. The published feed and single posts are serialized once per
+// version and served as bytes with a content-hash ETag and Last-Modified, so repeat hits cost no query
+// and conditional requests end in a 304. Every blog write calls invalidate(), which starts a new version.
+// The feed's Last-Modified moves forward on every rebuild, even when the newest post was deleted or
+// unpublished; otherwise clients revalidating with only If-Modified-Since would keep the removed post.
+@Component
+public class BlogFeedCache {
+
+    public record Entry(byte[] body, String etag, long lastModified, boolean published) {}
+
+    private final BlogRepository blogRepository;
+    private final ObjectMapper objectMapper;
+    private volatile Entry publishedFeed;
+    private final Map<UUID, Entry> blogs = new ConcurrentHashMap<>();
+    private final CacheGeneration version = new CacheGeneration();
+    // epoch millis of the last invalidation, or of startup when nothing has been invalidated yet
+    private volatile long invalidatedAt = System.currentTimeMillis();
+    // Last-Modified of the last feed built, guarded by this
+    private long feedLastModified;
+
+    public BlogFeedCache(BlogRepository blogRepository, ObjectMapper objectMapper) {
+        this.blogRepository = blogRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public Entry getPublishedFeed() {
+        Entry cached = publishedFeed;
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (this) {
+            cached = publishedFeed;
+            if (cached != null) {
+                return cached;
+            }
+            long builtFrom = version.current();
+            long changedAt = invalidatedAt;
+            List<Blog> published = blogRepository.findPublishedBlogsOrderByPublishedDate(BlogStatus.PUBLISHED);
+            long newestPost = published.stream()
+                    .map(BlogFeedCache::lastModified)
+                    .filter(Objects::nonNull)
+                    .mapToLong(BlogFeedCache::toMillis)
+                    .max()
+                    .orElse(0);
+            // HTTP dates have one-second precision, so a rebuild is at least a second past the previous feed
+            long lastModified = Math.max(Math.max(newestPost, changedAt),
+                    feedLastModified == 0 ? 0 : feedLastModified + 1000);
+            feedLastModified = lastModified;
+            Entry built = toEntry(published.stream().map(BlogService::mapToResponseDto).toList(), lastModified, true);
+            version.storeIfCurrent(builtFrom, () -> publishedFeed = built);
+            return built;
+        }
+    }
+
+    public Entry getBlog(UUID blogId) {
+        Entry cached = blogs.get(blogId);
+        if (cached != null) {
+            return cached;
+        }
+        long builtFrom = version.current();
+        Blog blog = blogRepository.findById(blogId)
+                .orElseThrow(() -> new EntityNotFoundException("Blog with id " + blogId + " not found"));
+        LocalDateTime lastModified = lastModified(blog);
+        Entry built = toEntry(BlogService.mapToResponseDto(blog),
+                lastModified == null ? System.currentTimeMillis() : toMillis(lastModified),
+                blog.getStatus() == BlogStatus.PUBLISHED);
+        blogs.put(blogId, built);
+        // an invalidation may have slipped in between the read and the put
+        if (version.current() != builtFrom) {
+            blogs.remove(blogId, built);
+        }
+        return built;
+    }
+
+    public void invalidate() {
+        version.invalidate(this::evict);
+    }
+
+    private void evict() {
+        invalidatedAt = System.currentTimeMillis();
+        publishedFeed = null;
+        blogs.clear();
+    }
+
+    private Entry toEntry(Object value, long lastModified, boolean published) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new Entry(body, etag, lastModified, published);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Could not serialize blog response", e);
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime lastModified(Blog blog) {
+        LocalDateTime latest = blog.getUpdatedAt() != null ? blog.getUpdatedAt() : blog.getCreatedAt();
+        if (blog.getPublishedAt() != null && (latest == null || blog.getPublishedAt().isAfter(latest))) {
+            latest = blog.getPublishedAt();
+        }
+        return latest;
+    }
+}
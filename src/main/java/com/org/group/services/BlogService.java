@@ -1,14 +1,19 @@
 package com.org.group.services;
 
+import com.org.group.dto.KeysetCursor;
+import com.org.group.dto.Paging;
 import com.org.group.dto.blog.BlogResponseDto;
+import com.org.group.dto.blog.BlogSummaryDto;
 import com.org.group.dto.blog.CreateBlogDto;
 import com.org.group.dto.blog.UpdateBlogDto;
 import com.org.group.model.Blog;
 import com.org.group.model.BlogStatus;
 import com.org.group.repository.BlogRepository;
+import com.org.group.responses.CursorPageResponse;
 import com.org.group.services.UploadFileServices.CloudinaryService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,6 +29,7 @@ public class BlogService {
     
     private final BlogRepository blogRepository;
     private final CloudinaryService cloudinaryService;
+    private final BlogFeedCache blogFeedCache;
 
     public BlogResponseDto createBlog(CreateBlogDto createBlogDto, MultipartFile photo) throws IOException {
         // Check if blog with same title already exists
@@ -51,6 +57,7 @@ public class BlogService {
             savedBlog.setPhotoUrl(photoUrl);
             savedBlog = blogRepository.save(savedBlog);
         }
+        blogFeedCache.invalidate();
 
         return mapToResponseDto(savedBlog);
     }
@@ -86,6 +93,7 @@ public class BlogService {
         }
         
         Blog updatedBlog = blogRepository.save(existingBlog);
+        blogFeedCache.invalidate();
         return mapToResponseDto(updatedBlog);
     }
     
@@ -103,6 +111,7 @@ public class BlogService {
         blog.setPhotoUrl(photoUrl);
         
         Blog updatedBlog = blogRepository.save(blog);
+        blogFeedCache.invalidate();
         return mapToResponseDto(updatedBlog);
     }
     
@@ -116,6 +125,7 @@ public class BlogService {
         }
         
         blogRepository.delete(blog);
+        blogFeedCache.invalidate();
     }
     
     public BlogResponseDto getBlogById(UUID blogId) {
@@ -127,15 +137,47 @@ public class BlogService {
     public List<BlogResponseDto> getAllBlogs() {
         List<Blog> blogs = blogRepository.findAll();
         return blogs.stream()
-                .map(this::mapToResponseDto)
+                .map(BlogService::mapToResponseDto)
                 .collect(Collectors.toList());
     }
 
     
+    // Serialized published feed, shared by every caller until the next blog write
+    public BlogFeedCache.Entry getPublishedFeed() {
+        return blogFeedCache.getPublishedFeed();
+    }
+
+    public BlogFeedCache.Entry getBlogJson(UUID blogId) {
+        return blogFeedCache.getBlog(blogId);
+    }
+
+    // Full body of a published post; drafts are reported as missing to public readers
+    public BlogFeedCache.Entry getPublishedBlogJson(UUID blogId) {
+        BlogFeedCache.Entry entry = blogFeedCache.getBlog(blogId);
+        if (!entry.published()) {
+            throw new EntityNotFoundException("Blog with id " + blogId + " not found");
+        }
+        return entry;
+    }
+
+    public CursorPageResponse<BlogSummaryDto> getPublishedSummaries(String cursor, int size) {
+        int pageSize = Paging.clampSize(size);
+        Pageable limit = Paging.keysetLimit(pageSize);
+        List<BlogSummaryDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = blogRepository.findPublishedSummaries(BlogStatus.PUBLISHED, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = blogRepository.findPublishedSummariesAfter(BlogStatus.PUBLISHED, after.at(), after.id(), limit);
+        }
+
+        return CursorPageResponse.of(rows, pageSize, last -> new KeysetCursor(last.getPublishedAt(), last.getId()));
+    }
+
     public List<BlogResponseDto> getPublishedBlogs() {
         List<Blog> blogs = blogRepository.findPublishedBlogsOrderByPublishedDate(BlogStatus.PUBLISHED);
         return blogs.stream()
-                .map(this::mapToResponseDto)
+                .map(BlogService::mapToResponseDto)
                 .collect(Collectors.toList());
     }
     
@@ -151,10 +193,11 @@ public class BlogService {
         }
         
         Blog updatedBlog = blogRepository.save(blog);
+        blogFeedCache.invalidate();
         return mapToResponseDto(updatedBlog);
     }
     
-    private BlogResponseDto mapToResponseDto(Blog blog) {
+    static BlogResponseDto mapToResponseDto(Blog blog) {
         return BlogResponseDto.builder()
                 .id(blog.getId())
                 .title(blog.getTitle())
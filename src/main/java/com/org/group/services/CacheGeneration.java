@@ -0,0 +1,44 @@
+package com.org.group.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Invalidation bookkeeping for the read-through caches. The generation is bumped on every invalidation;
+// a load that raced with one is served but not kept. Invalidations and the check-then-store of a load
+// both hold this object's lock, so no invalidation can fall between the check and the store.
+public final class CacheGeneration {
+
+    private long generation;
+
+    public synchronized long current() {
+        return generation;
+    }
+
+    // Runs clear now and, inside a transaction, again after commit: other transactions still see the
+    // old rows until then, so anything loaded in between must be dropped too
+    public void invalidate(Runnable clear) {
+        bump(clear);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(clear);
+                }
+            });
+        }
+    }
+
+    public synchronized void bump(Runnable clear) {
+        generation++;
+        clear.run();
+    }
+
+    // Runs store only if nothing was invalidated since loadedAt was read from current()
+    public synchronized boolean storeIfCurrent(long loadedAt, Runnable store) {
+        if (generation != loadedAt) {
+            return false;
+        }
+        store.run();
+        return true;
+    }
+}
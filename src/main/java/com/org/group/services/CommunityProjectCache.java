@@ -0,0 +1,94 @@
+package com.org.group.services;
+
+import com.org.group.dto.LaunchProject.AnalyticStatus;
+import com.org.group.dto.Paging;
+import com.org.group.dto.community.CommunityResponseDto;
+import com.org.group.repository.project.CommunityProjectRepository;
+import com.org.group.responses.PageResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+// Read-through cache of the public approved community listing. The approved set changes a few times
+// a day, so it is loaded with one findByStatus query and every page / category facet is cut from memory.
+// Any write that can change an approved project calls invalidate(); the next read reloads.
+@Component
+public class CommunityProjectCache {
+
+    private record Snapshot(List<CommunityResponseDto> projects, Map<String, Long> categories) {}
+
+    private final CommunityProjectRepository communityProjectRepository;
+    private volatile Snapshot snapshot;
+    private final CacheGeneration generation = new CacheGeneration();
+
+    public CommunityProjectCache(CommunityProjectRepository communityProjectRepository) {
+        this.communityProjectRepository = communityProjectRepository;
+    }
+
+    public List<CommunityResponseDto> getApproved() {
+        return current().projects();
+    }
+
+    public PageResponse<CommunityResponseDto> getApprovedPage(String category, int page, int size) {
+        List<CommunityResponseDto> projects = current().projects();
+        if (category != null && !category.isBlank()) {
+            projects = projects.stream()
+                    .filter(project -> category.equalsIgnoreCase(project.getCategory()))
+                    .toList();
+        }
+        Pageable pageable = Paging.of(page, size);
+        int from = (int) Math.min(pageable.getOffset(), projects.size());
+        int to = Math.min(from + pageable.getPageSize(), projects.size());
+        return PageResponse.<CommunityResponseDto>builder()
+                .items(projects.subList(from, to))
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(projects.size())
+                .totalPages((projects.size() + pageable.getPageSize() - 1) / pageable.getPageSize())
+                .build();
+    }
+
+    // Category -> number of approved projects, alphabetical
+    public Map<String, Long> getCategoryFacets() {
+        return current().categories();
+    }
+
+    public void invalidate() {
+        generation.invalidate(() -> snapshot = null);
+    }
+
+    private Snapshot current() {
+        Snapshot cached = snapshot;
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (this) {
+            cached = snapshot;
+            if (cached != null) {
+                return cached;
+            }
+            long loadedAt = generation.current();
+            Snapshot loaded = load();
+            generation.storeIfCurrent(loadedAt, () -> snapshot = loaded);
+            return loaded;
+        }
+    }
+
+    private Snapshot load() {
+        List<CommunityResponseDto> projects = communityProjectRepository.findByStatus(AnalyticStatus.APPROVED).stream()
+                .map(CommunityProjectService::convertToResponseDto)
+                .sorted(Comparator.comparing(CommunityResponseDto::getCreatedAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+        Map<String, Long> categories = projects.stream()
+                .filter(project -> project.getCategory() != null)
+                .collect(Collectors.groupingBy(CommunityResponseDto::getCategory, TreeMap::new, Collectors.counting()));
+        return new Snapshot(projects, Collections.unmodifiableMap(categories));
+    }
+}
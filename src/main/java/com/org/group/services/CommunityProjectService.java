@@ -9,8 +9,10 @@ import com.org.group.model.project.CommunityProject;
 import com.org.group.model.project.TeamMember;
 import com.org.group.repository.UserRepository;
 import com.org.group.repository.project.CommunityProjectRepository;
+import com.org.group.responses.PageResponse;
 import com.org.group.services.UploadFileServices.CloudinaryService;
 import com.org.group.services.emailAndJwt.PlanFilterServices;
+import com.org.group.subscription.SubscriptionPlan;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,12 +34,12 @@ public class CommunityProjectService {
     private final UserRepository userRepository;
     private final CloudinaryService cloudinaryService;
     private final PlanFilterServices planFilterServices;
+    private final CommunityProjectCache communityProjectCache;
 
     public CommunityResponseDto createProject(UUID userId, CommunityDto project, String photoUrl) throws IOException {
         Users users = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-        String userSubscription = planFilterServices.getPlanFiltered(users);
-        if(userSubscription.equals("BASIC") || userSubscription.equals("FREE")) {
+        if(!planFilterServices.hasAtLeast(users.getId(), SubscriptionPlan.PREMIUM)) {
             throw new RuntimeException("Please upgrade your Subscription");
         }
 
@@ -61,7 +64,7 @@ public class CommunityProjectService {
     }
 
     // Convert CommunityProject entity to CommunityResponseDto
-    private CommunityResponseDto convertToResponseDto(CommunityProject project) {
+    static CommunityResponseDto convertToResponseDto(CommunityProject project) {
         return CommunityResponseDto.builder()
                 .id(project.getId())
                 .fullName(project.getFullName())
@@ -92,15 +95,19 @@ public class CommunityProjectService {
     public List<CommunityResponseDto> getAllProjects() {
         return communityProjectRepository.findAll()
                 .stream()
-                .map(this::convertToResponseDto)
+                .map(CommunityProjectService::convertToResponseDto)
                 .collect(Collectors.toList());
     }
     public List<CommunityResponseDto> getAllProjectsApproved() {
-        return communityProjectRepository.findAll()
-                .stream()
-                .filter(project -> project.getStatus().equals(AnalyticStatus.APPROVED))
-                .map(this::convertToResponseDto)
-                .collect(Collectors.toList());
+        return communityProjectCache.getApproved();
+    }
+
+    public PageResponse<CommunityResponseDto> getApprovedProjectsPage(String category, int page, int size) {
+        return communityProjectCache.getApprovedPage(category, page, size);
+    }
+
+    public Map<String, Long> getApprovedCategoryFacets() {
+        return communityProjectCache.getCategoryFacets();
     }
 
     public CommunityResponseDto updateProject(UUID id, CommunityUpdateDto projectDetails) {
@@ -122,6 +129,7 @@ public class CommunityProjectService {
         project.setDescription(projectDetails.getDescription());
         
         CommunityProject updatedProject = communityProjectRepository.save(project);
+        communityProjectCache.invalidate();
         return convertToResponseDto(updatedProject);
     }
 
@@ -153,6 +161,7 @@ public class CommunityProjectService {
 
     public void deleteProject(UUID id) {
         communityProjectRepository.deleteById(id);
+        communityProjectCache.invalidate();
     }
 
     // Example method to add a team member to an existing project
@@ -176,7 +185,7 @@ public class CommunityProjectService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
         return communityProjectRepository.findByUser(user)
                 .stream()
-                .map(this::convertToResponseDto)
+                .map(CommunityProjectService::convertToResponseDto)
                 .collect(Collectors.toList());
     }
 
@@ -184,7 +193,7 @@ public class CommunityProjectService {
     public List<CommunityResponseDto> getProjectsByStatus(AnalyticStatus status) {
         return communityProjectRepository.findByStatus(status)
                 .stream()
-                .map(this::convertToResponseDto)
+                .map(CommunityProjectService::convertToResponseDto)
                 .collect(Collectors.toList());
     }
 
@@ -234,6 +243,7 @@ public class CommunityProjectService {
                 .orElseThrow(() -> new RuntimeException("Project not found"));
         project.setStatus(AnalyticStatus.APPROVED);
         CommunityProject savedProject = communityProjectRepository.save(project);
+        communityProjectCache.invalidate();
         return convertToResponseDto(savedProject);
     }
 
@@ -244,6 +254,7 @@ public class CommunityProjectService {
         project.setStatus(AnalyticStatus.DECLINED);
         project.setReason(reason);
         CommunityProject savedProject = communityProjectRepository.save(project);
+        communityProjectCache.invalidate();
         return convertToResponseDto(savedProject);
     }
 
@@ -254,6 +265,7 @@ public class CommunityProjectService {
         project.setStatus(AnalyticStatus.QUERY);
         project.setReason(reason);
         CommunityProject savedProject = communityProjectRepository.save(project);
+        communityProjectCache.invalidate();
         return convertToResponseDto(savedProject);
     }
 
@@ -1,103 +1,134 @@
 package com.org.group.services.LaunchProject;
 
+import com.org.group.dto.KeysetCursor;
 import com.org.group.dto.LaunchProject.AnalyticStatus;
-import com.org.group.model.Users;
-import com.org.group.model.project.Bookmark;
-import com.org.group.model.project.LaunchProject;
-import com.org.group.repository.UserRepository;
+import com.org.group.dto.Paging;
 import com.org.group.repository.project.BookmarkRepository;
 import com.org.group.repository.project.LaunchProjectRepository;
+import com.org.group.responses.CursorPageResponse;
+import com.org.group.responses.project.BookmarkStatusResponse;
 import com.org.group.responses.project.BookmarkedProjectResponse;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import com.org.group.services.UserProfileService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class BookmarkServices {
 
     private final BookmarkRepository bookmarkRepository;
-    private final UserRepository userRepository;
     private final LaunchProjectRepository launchProjectRepository;
+    private final UserProfileService userProfileService;
 
-    public BookmarkServices(BookmarkRepository bookmarkRepository, UserRepository userRepository, LaunchProjectRepository launchProjectRepository) {
+    public BookmarkServices(BookmarkRepository bookmarkRepository, LaunchProjectRepository launchProjectRepository, UserProfileService userProfileService) {
         this.bookmarkRepository = bookmarkRepository;
-        this.userRepository = userRepository;
         this.launchProjectRepository = launchProjectRepository;
+        this.userProfileService = userProfileService;
     }
 
-    public void bookmarkProject(UUID userId, UUID projectId) {
-        if (bookmarkRepository.existsByUserIdAndProjectProjectId(userId, projectId)) {
-            throw new RuntimeException("Project already bookmarked");
+    // count_bookmark used to be maintained with lost-update prone entity saves; realign it once per start
+    @EventListener(ApplicationReadyEvent.class)
+    public void resyncBookmarkCounts() {
+        try {
+            int fixed = launchProjectRepository.resyncBookmarkCounts();
+            if (fixed > 0) {
+                log.info("Realigned bookmark count of {} launch project(s)", fixed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not realign launch project bookmark counts", e);
         }
+    }
 
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        LaunchProject project = launchProjectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Project not found"));
-        project.setCountBookmark(project.getCountBookmark() + 1);
+    // Idempotent: bookmarking twice leaves one bookmark and counts it once
+    @Transactional
+    public BookmarkStatusResponse bookmarkProject(UUID userId, UUID projectId) {
+        requireIds(userId, projectId);
+        return added(userId, projectId);
+    }
 
+    // Idempotent: removing a bookmark that does not exist only reports the current count
+    @Transactional
+    public BookmarkStatusResponse deleteBookmark(UUID userId, UUID projectId) {
+        requireIds(userId, projectId);
+        if (bookmarkRepository.deleteByUserAndProject(userId, projectId) == 0) {
+            return status(projectId, false, currentCount(projectId));
+        }
+        userProfileService.evict(userId);
+        return status(projectId, false, adjustCount(projectId, -1));
+    }
 
-        launchProjectRepository.save(project);
+    @Transactional
+    public BookmarkStatusResponse toggleBookmark(UUID userId, UUID projectId) {
+        requireIds(userId, projectId);
+        if (bookmarkRepository.deleteByUserAndProject(userId, projectId) > 0) {
+            userProfileService.evict(userId);
+            return status(projectId, false, adjustCount(projectId, -1));
+        }
+        return added(userId, projectId);
+    }
 
-        Bookmark bookmark = Bookmark.builder()
-                .user(user)
-                .project(project)
-                .bookmarkedAt(LocalDateTime.now())
-                .build();
+    private BookmarkStatusResponse added(UUID userId, UUID projectId) {
+        int inserted;
+        try {
+            inserted = bookmarkRepository.insertIfAbsent(UUID.randomUUID(), userId, projectId);
+        } catch (DataIntegrityViolationException e) {
+            // foreign key on user_id / project_id
+            throw new EntityNotFoundException("User or project not found");
+        }
+        if (inserted == 0) {
+            return status(projectId, true, currentCount(projectId));
+        }
+        userProfileService.evict(userId);
+        return status(projectId, true, adjustCount(projectId, 1));
+    }
 
-        bookmarkRepository.save(bookmark);
+    private int adjustCount(UUID projectId, int delta) {
+        Integer count = launchProjectRepository.adjustBookmarkCount(projectId, delta);
+        if (count == null) {
+            throw new EntityNotFoundException("Project not found");
+        }
+        return count;
     }
-    public ResponseEntity<List<BookmarkedProjectResponse>> getBookmarkedProjects(UUID userId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found for bookmarked projects"));
-
-        List<BookmarkedProjectResponse> bookmarkedProjects = user.getBookmarks().stream()
-                .filter(bookmark -> bookmark.getProject().getStatus() != AnalyticStatus.DECLINED)
-                .map(bookmark -> {
-                    LaunchProject project = bookmark.getProject();
-                    return BookmarkedProjectResponse.builder()
-                            .projectId(project.getProjectId())
-                            .clientName(project.getClientName())
-                            .analyticStatus(project.getStatus())
-                            .projectDescription(project.getDescription())
-                            .projectUrl(project.getProjectPhotoUrl())
-                            .category(project.getCategory())
-                            .projectName(project.getProjectName())
-                            .bookmarkedDate(bookmark.getBookmarkedAt())
-                            .projectPurpose(project.getProjectPurpose())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(bookmarkedProjects);
+
+    private int currentCount(UUID projectId) {
+        return launchProjectRepository.findBookmarkCount(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found"));
     }
 
+    private static BookmarkStatusResponse status(UUID projectId, boolean bookmarked, int count) {
+        return BookmarkStatusResponse.builder()
+                .projectId(projectId)
+                .bookmarked(bookmarked)
+                .countBookmark(count)
+                .build();
+    }
 
-    public void deleteBookmark(UUID userId, UUID projectId) {
+    private static void requireIds(UUID userId, UUID projectId) {
         if (userId == null || projectId == null) {
-            throw new RuntimeException("User ID and Project ID cannot be null");
-        }
-
-        Optional<Bookmark> bookmark = bookmarkRepository.findByUserIdAndProjectProjectId(userId, projectId);
-        
-        if (bookmark.isEmpty()) {
-            throw new RuntimeException("Bookmark not found for the given user and project");
+            throw new IllegalArgumentException("User ID and Project ID cannot be null");
         }
+    }
 
-        LaunchProject project = bookmark.get().getProject();
-        if (project.getCountBookmark() > 0) {
-            project.setCountBookmark(project.getCountBookmark() - 1);
-            launchProjectRepository.save(project);
+    public CursorPageResponse<BookmarkedProjectResponse> getBookmarkedProjects(UUID userId, String cursor, int size) {
+        int pageSize = Paging.clampSize(size);
+        Pageable limit = Paging.keysetLimit(pageSize);
+        List<BookmarkedProjectResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = bookmarkRepository.findBookmarkedProjects(userId, AnalyticStatus.DECLINED, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = bookmarkRepository.findBookmarkedProjectsAfter(userId, AnalyticStatus.DECLINED, after.at(), after.id(), limit);
         }
 
-        bookmarkRepository.delete(bookmark.get());
+        return CursorPageResponse.of(rows, pageSize, last -> new KeysetCursor(last.getBookmarkedDate(), last.getProjectId()));
     }
-
 }
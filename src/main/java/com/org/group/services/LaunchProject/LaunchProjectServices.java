@@ -1,5 +1,7 @@
 package com.org.group.services.LaunchProject;
 
+import com.org.group.dto.KeysetCursor;
+import com.org.group.dto.Paging;
 import com.org.group.dto.LaunchProject.LaunchProjectDto;
 import com.org.group.dto.LaunchProject.AnalyticStatus;
 import com.org.group.dto.analytics.AnalyticsResponseDto;
@@ -12,23 +14,35 @@ import com.org.group.repository.analytics.AnalyticProjectRepository;
 import com.org.group.repository.analytics.AnalyticsFeedbackRepository;
 import com.org.group.repository.project.LaunchProjectRepository;
 import com.org.group.repository.UserRepository;
+import com.org.group.responses.CursorPageResponse;
+import com.org.group.responses.PageResponse;
 import com.org.group.responses.project.HomeProjectResponse;
 import com.org.group.responses.project.LaunchProjectResponse;
+import com.org.group.responses.project.ProjectSummaryResponse;
 import com.org.group.responses.project.MyProjectResponse;
+import com.org.group.services.Analyzer.AnalyzerServices;
+import com.org.group.services.Analyzer.AnalyzerWorkloadIndex;
 import com.org.group.services.UploadFileServices.CloudinaryService;
 import com.org.group.services.UploadFileServices.FileStorageService;
+import com.org.group.services.UploadFileServices.ParallelUploadService;
 import com.org.group.services.emailAndJwt.PlanFilterServices;
+import com.org.group.subscription.SubscriptionPlan;
 import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.Optional;
 
+@Slf4j
 @Service
 public class LaunchProjectServices {
 
@@ -39,9 +53,12 @@ public class LaunchProjectServices {
     private final PlanFilterServices planFilterServices;
     private final AnalyticProjectRepository analyticsRepository;
     private final AnalyticsFeedbackRepository feedbackRepository;
+    private final ProjectCounterService projectCounterService;
+    private final ParallelUploadService parallelUploadService;
+    private final AnalyzerServices analyzerServices;
+    private final AnalyzerWorkloadIndex analyzerWorkloadIndex;
 
-
-    public LaunchProjectServices(LaunchProjectRepository launchProjectRepository, CloudinaryService cloudinaryService, UserRepository userRepository, FileStorageService fileStorageService, PlanFilterServices planFilterServices, AnalyticProjectRepository analyticsRepository, AnalyticsFeedbackRepository feedbackRepository) {
+    public LaunchProjectServices(LaunchProjectRepository launchProjectRepository, CloudinaryService cloudinaryService, UserRepository userRepository, FileStorageService fileStorageService, PlanFilterServices planFilterServices, AnalyticProjectRepository analyticsRepository, AnalyticsFeedbackRepository feedbackRepository, ProjectCounterService projectCounterService, ParallelUploadService parallelUploadService, AnalyzerServices analyzerServices, AnalyzerWorkloadIndex analyzerWorkloadIndex) {
         this.launchProjectRepository = launchProjectRepository;
         this.cloudinaryService = cloudinaryService;
 
@@ -50,6 +67,10 @@ public class LaunchProjectServices {
         this.planFilterServices = planFilterServices;
         this.analyticsRepository = analyticsRepository;
         this.feedbackRepository = feedbackRepository;
+        this.projectCounterService = projectCounterService;
+        this.parallelUploadService = parallelUploadService;
+        this.analyzerServices = analyzerServices;
+        this.analyzerWorkloadIndex = analyzerWorkloadIndex;
     }
 
     public void saveProjectWithFiles(
@@ -64,71 +85,18 @@ public class LaunchProjectServices {
             MultipartFile pitchingVideo
     ) throws IOException {
 
-        String businessPlanUrl = null;
-        String businessIdeaDocumentUrl = null;
-        String projectPhotoUrl = null;
-        String pitchingVideoUrl = null;
-
-        String incomeStatementUrl = null;
-        String balanceSheetUrl = null;
-        String cashFlowUrl = null;
-
         Users user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-
-        try {
-            if (businessPlan != null && !businessPlan.isEmpty()) {
-                businessPlanUrl = cloudinaryService.uploadProjectPlan(businessPlan);
-            }
-        } catch (Exception e) {
-            throw new IOException("Failed to upload business plan", e);
-        }
-
-        try {
-            if (businessIdeaDocument != null && !businessIdeaDocument.isEmpty()) {
-                businessIdeaDocumentUrl = cloudinaryService.uploadProjectIdea(businessIdeaDocument);
-            }
-        } catch (Exception e) {
-            throw new IOException("Failed to upload business idea document", e);
-        }
-
-        try {
-            if (projectPhoto != null && !projectPhoto.isEmpty()) {
-                projectPhotoUrl = cloudinaryService.uploadProjectPhoto(projectPhoto);
-            }
-        } catch (Exception e) {
-            throw new IOException("Failed to upload project photo", e);
-        }
-        try {
-            if (incomeStatement != null && !incomeStatement.isEmpty()) {
-                incomeStatementUrl = cloudinaryService.uploadProjectPlan(incomeStatement);
-            }
-        } catch (Exception e) {
-            throw new IOException("Failed to upload income statement", e);
-        }
-        try {
-            if (cashFlow != null && !cashFlow.isEmpty()) {
-                cashFlowUrl = cloudinaryService.uploadProjectPlan(cashFlow);
-            }
-        } catch (Exception e) {
-            throw new IOException("Failed to upload cash flow", e);
-        }
-        try {
-            if (balanceSheet != null && !balanceSheet.isEmpty()) {
-                balanceSheetUrl = cloudinaryService.uploadProjectPlan(balanceSheet);
-            }
-        } catch (Exception e) {
-            throw new IOException("Failed to upload balance sheet", e);
-        }
-
-        try {
-            if (pitchingVideo != null && !pitchingVideo.isEmpty()) {
-                pitchingVideoUrl = cloudinaryService.uploadProjectVideo(pitchingVideo);
-            }
-        } catch (Exception e) {
-            throw new IOException("Failed to upload pitching video", e);
-        }
+        Map<String, ParallelUploadService.UploadJob> uploads = new LinkedHashMap<>();
+        uploads.put("business plan", new ParallelUploadService.UploadJob(businessPlan, cloudinaryService::uploadProjectPlan));
+        uploads.put("business idea document", new ParallelUploadService.UploadJob(businessIdeaDocument, cloudinaryService::uploadProjectIdea));
+        uploads.put("project photo", new ParallelUploadService.UploadJob(projectPhoto, cloudinaryService::uploadProjectPhoto));
+        uploads.put("income statement", new ParallelUploadService.UploadJob(incomeStatement, cloudinaryService::uploadProjectPlan));
+        uploads.put("cash flow", new ParallelUploadService.UploadJob(cashFlow, cloudinaryService::uploadProjectPlan));
+        uploads.put("balance sheet", new ParallelUploadService.UploadJob(balanceSheet, cloudinaryService::uploadProjectPlan));
+        uploads.put("pitching video", new ParallelUploadService.UploadJob(pitchingVideo, cloudinaryService::uploadProjectVideo));
+        Map<String, String> urls = parallelUploadService.uploadAll(uploads);
 
         LaunchProject newProject = LaunchProject.builder()
                 .user(user)
@@ -156,14 +124,14 @@ public class LaunchProjectServices {
                 .intellectualProjectQ(projectDto.getIntellectualProjectQ())
                 .wantOriginToBusinessPlanQ(projectDto.getWantOriginToBusinessPlanQ())
                 .businessIdea(projectDto.getBusinessIdea())
-                .projectPhotoUrl(projectPhotoUrl)
-                .pitchingVideoUrl(pitchingVideoUrl)
-                .businessPlanUrl(businessPlanUrl)
+                .projectPhotoUrl(urls.get("project photo"))
+                .pitchingVideoUrl(urls.get("pitching video"))
+                .businessPlanUrl(urls.get("business plan"))
                 .projectType("launched")
-                .businessIdeaDocumentUrl(businessIdeaDocumentUrl)
-                .incomeStatementUrl(incomeStatementUrl)
-                .cashFlowUrl(cashFlowUrl)
-                .balanceSheetUrl(balanceSheetUrl)
+                .businessIdeaDocumentUrl(urls.get("business idea document"))
+                .incomeStatementUrl(urls.get("income statement"))
+                .cashFlowUrl(urls.get("cash flow"))
+                .balanceSheetUrl(urls.get("balance sheet"))
                 .status(AnalyticStatus.PENDING)
                 .countBookmark(0)
                 .countAssignment(0)
@@ -171,7 +139,13 @@ public class LaunchProjectServices {
                 .updatedOn(LocalDateTime.now())
                 .build();
 
-        launchProjectRepository.save(newProject);
+        try {
+            launchProjectRepository.save(newProject);
+        } catch (RuntimeException e) {
+            parallelUploadService.deleteAll(urls.values());
+            throw e;
+        }
+        autoAssign(newProject.getProjectId());
     }
 
     public void updateProjectWithFiles(
@@ -314,55 +288,26 @@ public class LaunchProjectServices {
             
             project.setStatus(AnalyticStatus.PENDING);
             launchProjectRepository.save(project);
+            // analyzers still assigned from the previous round have this project back in their workload
+            analyzerWorkloadIndex.invalidate();
+            autoAssign(projectId);
         }
     }
 
+    // The submission is already stored; a failed auto-assignment leaves the project for manual assignment
+    private void autoAssign(UUID projectId) {
+        try {
+            analyzerServices.autoAssignProject(projectId);
+        } catch (RuntimeException e) {
+            log.warn("Could not auto-assign project {}", projectId, e);
+        }
+    }
 
 
 
-    public List<LaunchProjectResponse> getProjectsByUserId(UUID userId) {
-        List<LaunchProject> getProjects = launchProjectRepository.findByUserId(userId);
-
 
-        return getProjects.stream().map(project -> LaunchProjectResponse.builder()
-                .balanceSheetUrl(project.getBalanceSheetUrl())
-                .projectId(project.getProjectId())
-                .businessIdea(project.getBusinessIdea())
-                .businessPlanUrl(project.getBusinessPlanUrl())
-                .businessIdeaDocumentUrl(project.getBusinessIdeaDocumentUrl())
-                .clientName(project.getClientName())
-                .category(project.getCategory())
-                .description(project.getDescription())
-                .cashFlowUrl(project.getCashFlowUrl())
-                .status(project.getStatus())
-                .professionalStatus(project.getProfessionalStatus())
-                .projectName(project.getProjectName())
-                .haveSponsorQ(project.getHaveSponsorQ())
-                .projectPurpose(project.getProjectPurpose())
-                .projectLocation(project.getProjectLocation())
-                .projectPhotoUrl(project.getProjectPhotoUrl())
-                .doSellProjectQ(project.getDoSellProjectQ())
-                .submittedOn(project.getSubmittedOn())
-                .projectAmount(project.getProjectAmount())
-                .needOrgQ(project.getNeedOrgQ())
-                .pitchingVideoUrl(project.getPitchingVideoUrl())
-                .sponsorName(project.getSponsorName())
-                .website(project.getWebsite())
-                .incomeStatementUrl(project.getIncomeStatementUrl())
-                .prototypeLink(project.getPrototypeLink())
-                .projectStatus(project.getProjectStatus())
-                .updatedOn(project.getUpdatedOn())
-                .linkedIn(project.getLinkedIn())
-                .monthlyIncome(project.getMonthlyIncome())
-                .specialityOfProject(project.getSpecialityOfProject())
-                .phone(project.getPhone())
-                .needSponsorQ(project.getNeedSponsorQ())
-                .numberOfEmp(project.getNumberOfEmp())
-                .wantOriginToBusinessPlanQ(project.getWantOriginToBusinessPlanQ())
-                .intellectualProjectQ(project.getIntellectualProjectQ())
-                .email(project.getEmail())
-                .build()
-        ).toList();
+    public List<ProjectSummaryResponse> getProjectsByUserId(UUID userId) {
+        return launchProjectRepository.findSummariesByUserId(userId);
     }
 
 
@@ -407,8 +352,8 @@ public class LaunchProjectServices {
                                     .phone(project.getPhone())
                                     .needSponsorQ(project.getNeedSponsorQ())
                                     .numberOfEmp(project.getNumberOfEmp())
-                                    .views(project.getViews())
-                                    .interaction(project.getInteraction())
+                                    .views(project.getViews() + projectCounterService.pending(projectId, ProjectCounterService.Counter.VIEWS))
+                                    .interaction(project.getInteraction() + projectCounterService.pending(projectId, ProjectCounterService.Counter.INTERACTION))
                                     .countAssignment(project.getCountAssignment())
                                     .countBookmark(project.getCountBookmark())
                                     .wantOriginToBusinessPlanQ(project.getWantOriginToBusinessPlanQ())
@@ -428,63 +373,23 @@ public class LaunchProjectServices {
                 .orElseThrow(() -> new RuntimeException("Project not found with ID: " + projectId));
     }
 
-    public List<LaunchProject> getAllProject(){
-
-        return launchProjectRepository.findAll().stream().map(project->LaunchProject.builder().projectId(project.getProjectId())
-                .clientName(project.getClientName())
-                .professionalStatus(project.getProfessionalStatus())
-                .email(project.getEmail())
-                .phone(project.getPhone())
-                .linkedIn(project.getLinkedIn())
-                .projectName(project.getProjectName())
-                .category(project.getCategory())
-                .description(project.getDescription())
-                .projectLocation(project.getProjectLocation())
-                .projectStatus(project.getProjectStatus())
-                .projectPurpose(project.getProjectPurpose())
-                .specialityOfProject(project.getSpecialityOfProject())
-                .haveSponsorQ(project.getHaveSponsorQ())
-                .sponsorName(project.getSponsorName())
-                .needSponsorQ(project.getNeedSponsorQ())
-                .needOrgQ(project.getNeedOrgQ())
-                .doSellProjectQ(project.getDoSellProjectQ())
-                .projectAmount(project.getProjectAmount())
-                .intellectualProjectQ(project.getIntellectualProjectQ())
-                .wantOriginToBusinessPlanQ(project.getWantOriginToBusinessPlanQ())
-                .businessIdea(project.getBusinessIdea())
-                .projectPhotoUrl(project.getProjectPhotoUrl())
-                .pitchingVideoUrl(project.getPitchingVideoUrl())
-                .businessPlanUrl(project.getBusinessPlanUrl())
-                .businessIdeaDocumentUrl(project.getBusinessIdeaDocumentUrl()).build()).toList();
-
-    }
-
-    public List<HomeProjectResponse> getHomeProjects() {
-        return launchProjectRepository.findAll().stream()
-                .filter(project -> !"declined".equalsIgnoreCase(String.valueOf(project.getStatus())))
-                .map(project-> {
-                    Double projectFinancialCategory = null;
-                    if (project.getAnalyticProject() != null) {
-                        projectFinancialCategory = project.getAnalyticProject().getPrice();
-                    } 
-                    return HomeProjectResponse.builder()
-                            .projectId(project.getProjectId())
-                            .clientName(project.getClientName())
-                            .analyticStatus(project.getStatus())
-                            .projectDescription(project.getDescription())
-                            .projectUrl(project.getProjectPhotoUrl())
-                            .category(project.getCategory())
-                            .projectName(project.getProjectName())
-                            .linkedInUrl(project.getLinkedIn())
-                            .projectLocation(project.getProjectLocation())
-                            .projectPurpose(project.getProjectPurpose())
-                            .projectType(project.getProjectType())
-                            .projectFinancialCategory(projectFinancialCategory)
-                            .build();
-                }).toList();
+    public PageResponse<ProjectSummaryResponse> getAllProject(int page, int size) {
+        return PageResponse.from(launchProjectRepository.findSummaryPage(Paging.of(page, size)));
     }
 
+    public CursorPageResponse<HomeProjectResponse> getHomeProjects(String cursor, int size) {
+        int pageSize = Paging.clampSize(size);
+        Pageable limit = Paging.keysetLimit(pageSize);
+        List<HomeProjectResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = launchProjectRepository.findHomeFeed(AnalyticStatus.DECLINED, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = launchProjectRepository.findHomeFeedAfter(AnalyticStatus.DECLINED, after.at(), after.id(), limit);
+        }
 
+        return CursorPageResponse.of(rows, pageSize, last -> new KeysetCursor(last.getSubmittedOn(), last.getProjectId()));
+    }
 
     public List<MyProjectResponse> getMyProjectsByUserId(UUID userId) {
         List<LaunchProject> getProjects = launchProjectRepository.findByUserId(userId);
@@ -531,27 +436,25 @@ public class LaunchProjectServices {
         }
 
         launchProjectRepository.delete(project);
+        analyzerWorkloadIndex.invalidate();
     }
 
 
     public ResponseEntity<UserAnalyticsResponse> getAnalyticsOfProject(UUID userId, UUID projectId) {
-        Users user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
         LaunchProject project = launchProjectRepository.findById(projectId).orElseThrow(() -> new RuntimeException("Project not found"));
-
-            String highestPriorityPlan = planFilterServices.getPlanFiltered(user);
         AnalyticProject analytics = analyticsRepository.findByLaunchProject_ProjectId(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Analytics not found for project"));
 
         if (project.getStatus()== AnalyticStatus.PENDING || !analytics.isAnalyticsEnabled()){
             throw new RuntimeException("analytics will came soon us possible");
          }
-        if (highestPriorityPlan.equals("BASIC") || highestPriorityPlan.equals("FREE")) {
+        if (!planFilterServices.hasAtLeast(userId, SubscriptionPlan.PREMIUM)) {
             throw new RuntimeException("upgrade your plan");
         }
-        LaunchProject project1 = launchProjectRepository.findById(projectId).orElseThrow(() -> new RuntimeException("Project not found"));
-        assert project1 != null;
-        project.setInteraction(project.getInteraction()+1);
-        launchProjectRepository.save(project);
+        projectCounterService.increment(projectId, ProjectCounterService.Counter.INTERACTION);
 
         return ResponseEntity.ok( UserAnalyticsResponse.builder()
                 .analyticsId(analytics.getAnalyticId())
@@ -561,10 +464,10 @@ public class LaunchProjectServices {
                 .annualIncome(analytics.getAnnualIncome())
                 .roi(analytics.getRoi())
                 .incomeDescription(analytics.getIncomeDescription())
-                .totalView(project1.getViews())
-                .bookmarks(project1.getCountBookmark())
-                .interested(project1.getInterestedInvestors())
-                .interactions(project1.getInteraction())
+                .totalView(project.getViews() + projectCounterService.pending(projectId, ProjectCounterService.Counter.VIEWS))
+                .bookmarks(project.getCountBookmark())
+                .interested(project.getInterestedInvestors() + projectCounterService.pending(projectId, ProjectCounterService.Counter.INTERESTED_INVESTORS))
+                .interactions(project.getInteraction() + projectCounterService.pending(projectId, ProjectCounterService.Counter.INTERACTION))
                 .price(analytics.getPrice())
                 .costOfDevelopment(analytics.getCostOfDevelopment())
                 .analyticsDocumentUrl(analytics.getAnalyticsDocumentUrl())
@@ -582,10 +485,7 @@ public class LaunchProjectServices {
         if (launchProject.getAnalyticProject() != null) {
             projectFinancialCategory = launchProject.getAnalyticProject().getPrice();
         }
-        LaunchProject project2= launchProjectRepository.findById(id).orElse(null);
-        assert project2 != null;
-        project2.setViews(project2.getViews() + 1);
-        launchProjectRepository.save(project2);
+        projectCounterService.increment(id, ProjectCounterService.Counter.VIEWS);
         
         return HomeProjectResponse.builder()
                 .projectId(launchProject.getProjectId())
@@ -600,6 +500,7 @@ public class LaunchProjectServices {
                 .projectPurpose(launchProject.getProjectPurpose())
                 .projectType(launchProject.getProjectType())
                 .projectFinancialCategory(projectFinancialCategory)
+                .submittedOn(launchProject.getSubmittedOn())
                 .build();
     }
 }
@@ -0,0 +1,104 @@
+package com.org.group.services.LaunchProject;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Write-behind counters for launch project engagement stats.
+// Increments are accumulated in memory and flushed as one batched relative UPDATE,
+// so hot project pages never do a read-modify-write on the entity. A bucket that stays at zero
+// for a whole flush interval is dropped, so the map only holds recently viewed projects.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectCounterService {
+
+    public enum Counter { VIEWS, INTERACTION, INTERESTED_INVESTORS }
+
+    private static final String FLUSH_SQL =
+            "UPDATE launch_project SET views = COALESCE(views, 0) + ?, interaction = COALESCE(interaction, 0) + ?, " +
+            "interested_investors = COALESCE(interested_investors, 0) + ? WHERE project_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<UUID, LongAdder[]> buckets = new ConcurrentHashMap<>();
+
+    // The increment runs inside compute so it cannot land in a bucket that flush() is removing
+    public void increment(UUID projectId, Counter counter) {
+        buckets.compute(projectId, (id, bucket) -> {
+            LongAdder[] target = bucket == null ? newBucket() : bucket;
+            target[counter.ordinal()].increment();
+            return target;
+        });
+    }
+
+    // Increments recorded but not yet written, so readers can report up-to-date totals
+    public long pending(UUID projectId, Counter counter) {
+        LongAdder[] bucket = buckets.get(projectId);
+        return bucket == null ? 0 : bucket[counter.ordinal()].sum();
+    }
+
+    @Scheduled(fixedDelayString = "${project.counters.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<UUID, LongAdder[]> entry : buckets.entrySet()) {
+            LongAdder[] bucket = entry.getValue();
+            long views = bucket[Counter.VIEWS.ordinal()].sumThenReset();
+            long interaction = bucket[Counter.INTERACTION.ordinal()].sumThenReset();
+            long investors = bucket[Counter.INTERESTED_INVESTORS.ordinal()].sumThenReset();
+            if (views == 0 && interaction == 0 && investors == 0) {
+                // idle since the last flush; removed only if still empty under the entry lock
+                buckets.computeIfPresent(entry.getKey(), (id, idle) -> isEmpty(idle) ? null : idle);
+                continue;
+            }
+            batch.add(new Object[]{views, interaction, investors, entry.getKey()});
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            // put the deltas back so the next flush retries them
+            for (Object[] row : batch) {
+                LongAdder[] bucket = buckets.computeIfAbsent((UUID) row[3], id -> newBucket());
+                bucket[Counter.VIEWS.ordinal()].add((long) row[0]);
+                bucket[Counter.INTERACTION.ordinal()].add((long) row[1]);
+                bucket[Counter.INTERESTED_INVESTORS.ordinal()].add((long) row[2]);
+            }
+            log.error("Failed to flush counters for {} projects", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static boolean isEmpty(LongAdder[] bucket) {
+        for (LongAdder adder : bucket) {
+            if (adder.sum() != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LongAdder[] newBucket() {
+        LongAdder[] bucket = new LongAdder[Counter.values().length];
+        for (int i = 0; i < bucket.length; i++) {
+            bucket[i] = new LongAdder();
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,46 @@
+package com.org.group.services;
+
+import com.org.group.model.Users;
+import com.org.group.model.project.Bookmark;
+import com.org.group.model.project.CommunityProject;
+import com.org.group.model.project.LaunchProject;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// Entity listener on Users, LaunchProject, CommunityProject and Bookmark; evicts the owner's cached profile.
+// Bulk JPQL updates bypass it and are only picked up when the short profile TTL runs out.
+@Component
+public class ProfileChangeListener {
+
+    // looked up lazily: the listener is created while the EntityManagerFactory is still being built
+    private final ObjectProvider<UserProfileService> userProfileService;
+
+    public ProfileChangeListener(ObjectProvider<UserProfileService> userProfileService) {
+        this.userProfileService = userProfileService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        UUID ownerId = switch (entity) {
+            case Users user -> user.getId();
+            case LaunchProject project -> ownerOf(project.getUser());
+            case CommunityProject project -> ownerOf(project.getUser());
+            case Bookmark bookmark -> ownerOf(bookmark.getUser());
+            default -> null;
+        };
+        if (ownerId != null) {
+            userProfileService.getObject().evict(ownerId);
+        }
+    }
+
+    private static UUID ownerOf(Users user) {
+        return user != null ? user.getId() : null;
+    }
+}
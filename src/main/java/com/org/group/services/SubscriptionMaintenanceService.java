@@ -0,0 +1,159 @@
+package com.org.group.services;
+
+import com.org.group.dto.SubscriptionReminderTarget;
+import com.org.group.repository.UserRepository;
+import com.org.group.repository.UserSubscriptionRepository;
+import com.org.group.services.emailAndJwt.EmailService;
+import com.org.group.services.emailAndJwt.EmailTemplateService;
+import com.org.group.services.emailAndJwt.PlanFilterServices;
+import com.org.group.subscription.SubscriptionPlan;
+import com.org.group.subscription.SubscriptionStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class SubscriptionMaintenanceService {
+
+    private final UserSubscriptionRepository userSubscriptionRepository;
+    private final UserRepository userRepository;
+    private final EmailService emailService;
+    private final EmailTemplateService emailTemplateService;
+    private final PlanFilterServices planFilterServices;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+    private final ExecutorService reminderSender;
+    private final int reminderQueueCapacity;
+
+    @Value("${subscriptions.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    public SubscriptionMaintenanceService(UserSubscriptionRepository userSubscriptionRepository,
+                                          UserRepository userRepository,
+                                          EmailService emailService,
+                                          EmailTemplateService emailTemplateService,
+                                          PlanFilterServices planFilterServices,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${subscriptions.reminder.senders:2}") int reminderSenders,
+                                          @Value("${subscriptions.reminder.queue-capacity:100}") int reminderQueueCapacity) {
+        this.userSubscriptionRepository = userSubscriptionRepository;
+        this.userRepository = userRepository;
+        this.emailService = emailService;
+        this.emailTemplateService = emailTemplateService;
+        this.planFilterServices = planFilterServices;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.reminderSender = Executors.newFixedThreadPool(reminderSenders);
+        this.reminderQueueCapacity = reminderQueueCapacity;
+    }
+
+    // Expires overdue subscriptions in short indexed chunks (one transaction each),
+    // then recomputes Users.subscribed with a single set-based update.
+    @Scheduled(cron = "0 0 0 * * *")// Every midnight minutes
+    public void checkAndExpireSubscriptions() {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        int chunks = 0;
+
+        while (true) {
+            List<Long> ids = userSubscriptionRepository.findIdsToExpire(SubscriptionStatus.EXPIRED, now, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            int updated = userSubscriptionRepository.markExpired(ids, SubscriptionStatus.EXPIRED);
+            expired += updated;
+            chunks++;
+            log.info("Subscription expiry: chunk {} expired {} subscriptions ({} so far)", chunks, updated, expired);
+            if (updated == 0) {
+                break;
+            }
+        }
+
+        if (expired > 0) {
+            // bulk updates skip the entity listener, so cached effective plans are dropped here
+            planFilterServices.evictAll();
+        }
+        int unsubscribed = userRepository.clearSubscribedWithoutActivePlan(SubscriptionStatus.ACTIVE, SubscriptionPlan.FREE);
+        log.info("Subscription expiry finished in {} ms: {} subscriptions expired in {} chunks, {} users unsubscribed",
+                System.currentTimeMillis() - started, expired, chunks, unsubscribed);
+    }
+
+    // Streams only subscriptions ending in the next 24 hours and hands each one to a bounded sender pool.
+    // Each reminder is claimed with a conditional update in the same transaction that queues the email,
+    // so a reminder goes out once per endDate even when several nodes run the job.
+    @Scheduled(cron = "0 0 8 * * ?") // Runs every day at 8:00 AM
+    public void sendSubscriptionExpirationReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime warningTime = now.plusHours(24); // 24 hours from now
+        Semaphore slots = new Semaphore(reminderQueueCapacity);
+        AtomicInteger queued = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<SubscriptionReminderTarget> due =
+                         userSubscriptionRepository.streamDueForReminder(SubscriptionStatus.EXPIRED, now, warningTime)) {
+                due.forEach(target -> {
+                    slots.acquireUninterruptibly();
+                    reminderSender.execute(() -> {
+                        try {
+                            if (sendReminder(target)) {
+                                queued.incrementAndGet();
+                            } else {
+                                skipped.incrementAndGet();
+                            }
+                        } catch (RuntimeException e) {
+                            log.error("Failed to queue reminder for subscription {}", target.subscriptionId(), e);
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                });
+            }
+        });
+
+        // wait for in-flight reminders before reporting
+        slots.acquireUninterruptibly(reminderQueueCapacity);
+        slots.release(reminderQueueCapacity);
+        log.info("Subscription reminders: {} queued, {} already sent elsewhere", queued.get(), skipped.get());
+    }
+
+    private boolean sendReminder(SubscriptionReminderTarget target) {
+        Boolean sent = transaction.execute(status -> {
+            if (userSubscriptionRepository.markReminderSent(target.subscriptionId(), target.endDate()) == 0) {
+                return false;
+            }
+            String subject = "Subscription Expiration Reminder";
+            emailService.queueEmail(target.email(), subject, createReminderEmailContent(target));
+            return true;
+        });
+        return Boolean.TRUE.equals(sent);
+    }
+
+    private String createReminderEmailContent(SubscriptionReminderTarget target) {
+        return emailTemplateService.render(EmailTemplateService.SUBSCRIPTION_REMINDER, "Subscription Reminder",
+                EmailTemplateService.model(
+                        "plan", target.plan(),
+                        "endDate", target.endDate()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reminderSender.shutdown();
+    }
+}
@@ -7,7 +7,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Map;
 import java.util.UUID;
 
@@ -116,15 +118,22 @@ public class CloudinaryService {
         }
 
         String uniqueFilename = resourceType + "_" + UUID.randomUUID();
-        Map<String, Object> uploadResult = cloudinary.uploader().upload(file.getBytes(), ObjectUtils.asMap(
-                "resource_type", resourceType,
-                "public_id", uniqueFilename,
-                "use_filename", true,
-                "unique_filename", false,
-                "overwrite", true
-        ));
-
-        return uploadResult.get("secure_url").toString();
+        // spool to disk and let the client stream the file instead of holding it on the heap
+        File tempFile = Files.createTempFile(uniqueFilename, null).toFile();
+        try {
+            file.transferTo(tempFile);
+            Map<String, Object> uploadResult = cloudinary.uploader().upload(tempFile, ObjectUtils.asMap(
+                    "resource_type", resourceType,
+                    "public_id", uniqueFilename,
+                    "use_filename", true,
+                    "unique_filename", false,
+                    "overwrite", true
+            ));
+
+            return uploadResult.get("secure_url").toString();
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
     }
 
 
@@ -0,0 +1,81 @@
+package com.org.group.services.UploadFileServices;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Runs a set of uploads concurrently on virtual threads; all succeed or the uploaded ones are removed again
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParallelUploadService {
+
+    private final CloudinaryService cloudinaryService;
+
+    @FunctionalInterface
+    public interface Uploader {
+        String upload(MultipartFile file) throws IOException;
+    }
+
+    public record UploadJob(MultipartFile file, Uploader uploader) {}
+
+    // Returns label -> url for every non-empty file; labels are used in the error message on failure
+    public Map<String, String> uploadAll(Map<String, UploadJob> jobs) throws IOException {
+        Map<String, Future<String>> futures = new LinkedHashMap<>();
+        Map<String, String> urls = new LinkedHashMap<>();
+        String failedLabel = null;
+        Throwable failure = null;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            jobs.forEach((label, job) -> {
+                if (job.file() != null && !job.file().isEmpty()) {
+                    futures.put(label, executor.submit(() -> job.uploader().upload(job.file())));
+                }
+            });
+
+            for (Map.Entry<String, Future<String>> entry : futures.entrySet()) {
+                try {
+                    urls.put(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failedLabel = entry.getKey();
+                        failure = e.getCause();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (failure == null) {
+                        failedLabel = entry.getKey();
+                        failure = e;
+                    }
+                }
+            }
+        }
+
+        if (failure != null) {
+            deleteAll(urls.values());
+            throw new IOException("Failed to upload " + failedLabel, failure);
+        }
+        return urls;
+    }
+
+    // Compensation for uploads whose owning record could not be saved
+    public void deleteAll(Collection<String> urls) {
+        for (String url : urls) {
+            try {
+                cloudinaryService.deleteFile(url);
+            } catch (RuntimeException e) {
+                log.warn("Could not remove orphaned upload {}", url, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.org.group.services;
+
+import com.org.group.dto.userResponse.BookmarkDto;
+import com.org.group.dto.userResponse.CommunityProjectDto;
+import com.org.group.dto.userResponse.LaunchedProjectDto;
+import com.org.group.dto.userResponse.ProjectStatusRow;
+import com.org.group.dto.userResponse.UserBasicInfoDto;
+import com.org.group.dto.userResponse.UserDetailResponseDto;
+import com.org.group.repository.UserRepository;
+import com.org.group.repository.project.BookmarkRepository;
+import com.org.group.repository.project.CommunityProjectRepository;
+import com.org.group.repository.project.LaunchProjectRepository;
+import com.org.group.services.emailAndJwt.PlanFilterServices;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Client profile page: four projection queries run side by side on virtual threads, then kept per user for
+// a few seconds. ProfileChangeListener evicts a user's entry when their account, projects or bookmarks change;
+// the subscription plan is not cached here because PlanFilterServices already memoizes it.
+@Service
+public class UserProfileService {
+
+    private record Profile(UserBasicInfoDto userInfo, List<LaunchedProjectDto> launchedProjects,
+                           List<CommunityProjectDto> communityProjects, List<BookmarkDto> bookmarks,
+                           long expiresAt) {}
+
+    private final UserRepository userRepository;
+    private final LaunchProjectRepository launchProjectRepository;
+    private final CommunityProjectRepository communityProjectRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final PlanFilterServices planFilterServices;
+    private final long ttlMillis;
+    private final Map<UUID, Profile> profiles = new ConcurrentHashMap<>();
+    // shared by all users, so an eviction also keeps a concurrent load of someone else out of the cache
+    private final CacheGeneration generation = new CacheGeneration();
+
+    public UserProfileService(UserRepository userRepository,
+                              LaunchProjectRepository launchProjectRepository,
+                              CommunityProjectRepository communityProjectRepository,
+                              BookmarkRepository bookmarkRepository,
+                              PlanFilterServices planFilterServices,
+                              @Value("${profile.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.launchProjectRepository = launchProjectRepository;
+        this.communityProjectRepository = communityProjectRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.planFilterServices = planFilterServices;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public UserDetailResponseDto getProfile(UUID userId) {
+        Profile profile = profiles.get(userId);
+        if (profile == null || profile.expiresAt() < System.currentTimeMillis()) {
+            long loadedAt = generation.current();
+            Profile loaded = load(userId);
+            if (ttlMillis > 0) {
+                generation.storeIfCurrent(loadedAt, () -> profiles.put(userId, loaded));
+            }
+            profile = loaded;
+        }
+        return UserDetailResponseDto.builder()
+                .userInfo(profile.userInfo())
+                .currentSubscription(planFilterServices.getEffectivePlan(userId).name())
+                .launchedProjects(profile.launchedProjects())
+                .communityProjects(profile.communityProjects())
+                .bookmarks(profile.bookmarks())
+                .build();
+    }
+
+    public void evict(UUID userId) {
+        generation.invalidate(() -> profiles.remove(userId));
+    }
+
+    // Drops entries of users who have not come back since their profile expired
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        profiles.values().removeIf(profile -> profile.expiresAt() < now);
+    }
+
+    private Profile load(UUID userId) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Optional<UserBasicInfoDto>> userInfo = executor.submit(() -> userRepository.findBasicInfoById(userId));
+            Future<List<ProjectStatusRow>> launched = executor.submit(() -> launchProjectRepository.findStatusRowsByUserId(userId));
+            Future<List<ProjectStatusRow>> community = executor.submit(() -> communityProjectRepository.findStatusRowsByUserId(userId));
+            Future<List<BookmarkDto>> bookmarks = executor.submit(() -> bookmarkRepository.findBookmarkNamesByUserId(userId));
+
+            UserBasicInfoDto user = join(userInfo)
+                    .orElseThrow(() -> new EntityNotFoundException("User Not Found"));
+            return new Profile(user,
+                    join(launched).stream()
+                            .map(project -> LaunchedProjectDto.builder()
+                                    .id(project.id())
+                                    .projectName(project.projectName())
+                                    .status(statusName(project))
+                                    .build())
+                            .toList(),
+                    join(community).stream()
+                            .map(project -> CommunityProjectDto.builder()
+                                    .id(project.id())
+                                    .projectName(project.projectName())
+                                    .status(statusName(project))
+                                    .build())
+                            .toList(),
+                    join(bookmarks),
+                    System.currentTimeMillis() + ttlMillis);
+        }
+    }
+
+    private static String statusName(ProjectStatusRow project) {
+        return project.status() != null ? project.status().toString() : "UNKNOWN";
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Could not load user profile", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading user profile", e);
+        }
+    }
+}
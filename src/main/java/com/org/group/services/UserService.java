@@ -1,5 +1,7 @@
 package com.org.group.services;
 
+import com.org.group.config.PrincipalCache;
+import com.org.group.dto.Paging;
 import com.org.group.dto.userAuth.ChangePasswordDto;
 import com.org.group.dto.userAuth.ProfileUpdateDto;
 import com.org.group.dto.userAuth.UserRattingDto;
@@ -9,36 +11,25 @@ import com.org.group.model.analyzer.Analyzer;
 import com.org.group.repository.AnalyzerRepository;
 import com.org.group.repository.UserRepository;
 import com.org.group.repository.UserSubscriptionRepository;
-import com.org.group.repository.project.LaunchProjectRepository;
-import com.org.group.repository.project.CommunityProjectRepository;
-import com.org.group.repository.project.BookmarkRepository;
+import com.org.group.responses.PageResponse;
 import com.org.group.services.UploadFileServices.CloudinaryService;
 import com.org.group.services.emailAndJwt.EmailService;
+import com.org.group.services.emailAndJwt.EmailTemplateService;
+import com.org.group.subscription.SubscriptionPlan;
 import com.org.group.services.emailAndJwt.PlanFilterServices;
-import jakarta.mail.MessagingException;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import com.org.group.model.UserRatting;
 import com.org.group.repository.UserRattingRepository;
 import com.org.group.dto.userResponse.UserDetailResponseDto;
-import com.org.group.dto.userResponse.UserBasicInfoDto;
-import com.org.group.dto.userResponse.LaunchedProjectDto;
-import com.org.group.dto.userResponse.CommunityProjectDto;
-import com.org.group.dto.userResponse.BookmarkDto;
-import com.org.group.model.project.LaunchProject;
-import com.org.group.model.project.CommunityProject;
-import com.org.group.model.project.Bookmark;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 
-import com.org.group.subscription.SubscriptionStatus;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -52,11 +43,12 @@ public class UserService {
     private final UserRattingRepository userRattingRepository;
     private final PlanFilterServices planFilterServices;
     private final CloudinaryService cloudinaryService;
-    private final LaunchProjectRepository launchProjectRepository;
-    private final CommunityProjectRepository communityProjectRepository;
-    private final BookmarkRepository bookmarkRepository;
+    private final PrincipalCache principalCache;
+    private final EmailTemplateService emailTemplateService;
+    private final ApprovedRatingsCache approvedRatingsCache;
+    private final UserProfileService userProfileService;
 
-    public UserService(UserRepository userRepository, EmailService emailService, UserSubscriptionRepository userSubscriptionRepository, PasswordEncoder passwordEncoder, AnalyzerRepository analyzerRepository, UserRattingRepository userRattingRepository, PlanFilterServices planFilterServices, CloudinaryService cloudinaryService, LaunchProjectRepository launchProjectRepository, CommunityProjectRepository communityProjectRepository, BookmarkRepository bookmarkRepository) {
+    public UserService(UserRepository userRepository, EmailService emailService, UserSubscriptionRepository userSubscriptionRepository, PasswordEncoder passwordEncoder, AnalyzerRepository analyzerRepository, UserRattingRepository userRattingRepository, PlanFilterServices planFilterServices, CloudinaryService cloudinaryService, PrincipalCache principalCache, EmailTemplateService emailTemplateService, ApprovedRatingsCache approvedRatingsCache, UserProfileService userProfileService) {
         this.userRepository = userRepository;
         this.userSubscriptionRepository = userSubscriptionRepository;
         this.emailService = emailService;
@@ -65,9 +57,10 @@ public class UserService {
         this.userRattingRepository = userRattingRepository;
         this.planFilterServices = planFilterServices;
         this.cloudinaryService = cloudinaryService;
-        this.launchProjectRepository = launchProjectRepository;
-        this.communityProjectRepository = communityProjectRepository;
-        this.bookmarkRepository = bookmarkRepository;
+        this.principalCache = principalCache;
+        this.emailTemplateService = emailTemplateService;
+        this.approvedRatingsCache = approvedRatingsCache;
+        this.userProfileService = userProfileService;
     }
     public Users getUserById(UUID userId){
         return  userRepository.findById(userId).orElseThrow(()-> new EntityNotFoundException("user Not found"));
@@ -76,85 +69,7 @@ public class UserService {
 
 
     public UserDetailResponseDto getUserByIdDetails(UUID userId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User Not Found"));
-        
-        // Get current subscription using PlanFilterServices
-        String currentSubscription = planFilterServices.getPlanFiltered(user);
-        
-        // Get launched projects (only status and project name) - simplified for now
-        List<LaunchedProjectDto> launchedProjects = new ArrayList<>();
-        try {
-            List<LaunchProject> projects = launchProjectRepository.findByUserId(userId);
-            launchedProjects = projects.stream()
-                    .map(project -> LaunchedProjectDto.builder()
-                            .id(project.getProjectId())
-                            .projectName(project.getProjectName())
-                            .status(project.getStatus() != null ? project.getStatus().toString() : "UNKNOWN")
-                            .build())
-                    .toList();
-        } catch (Exception e) {
-            // Log the error but continue with empty list
-            System.err.println("Error fetching launched projects: " + e.getMessage());
-            launchedProjects = new ArrayList<>();
-        }
-        
-        // Get community projects (only status and project name) - simplified for now
-        List<CommunityProjectDto> communityProjects = new ArrayList<>();
-        try {
-            List<CommunityProject> projects = communityProjectRepository.findByUser(user);
-            communityProjects = projects.stream()
-                    .map(project -> CommunityProjectDto.builder()
-                            .id(project.getId())
-                            .projectName(project.getProjectName())
-                            .status(project.getStatus() != null ? project.getStatus().toString() : "UNKNOWN")
-                            .build())
-                    .toList();
-        } catch (Exception e) {
-            // Log the error but continue with empty list
-            System.err.println("Error fetching community projects: " + e.getMessage());
-            communityProjects = new ArrayList<>();
-        }
-        
-        // Get bookmarks - simplified for now
-        List<BookmarkDto> bookmarks = new ArrayList<>();
-        try {
-            Set<Bookmark> userBookmarks = user.getBookmarks();
-            if (userBookmarks != null) {
-                bookmarks = userBookmarks.stream()
-                        .map(bookmark -> BookmarkDto.builder()
-                                .id(bookmark.getId())
-                                .projectName(bookmark.getProject().getProjectName())
-                                .projectType("LAUNCHED") // Since bookmarks are only for LaunchProject
-                                .build())
-                        .toList();
-            }
-        } catch (Exception e) {
-            // Log the error but continue with empty list
-            System.err.println("Error fetching bookmarks: " + e.getMessage());
-            bookmarks = new ArrayList<>();
-        }
-        
-        // Build user basic info
-        UserBasicInfoDto userInfo = UserBasicInfoDto.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .phone(user.getPhone())
-                .professional(user.getProfessional())
-                .photoUrl(user.getPhotoUrl())
-                .nationalId(user.getNationalId())
-                .isActive(user.isActive())
-                .isSubscribed(user.getSubscribed())
-                .build();
-        
-        return UserDetailResponseDto.builder()
-                .userInfo(userInfo)
-                .currentSubscription(currentSubscription)
-                .launchedProjects(launchedProjects)
-                .communityProjects(communityProjects)
-                .bookmarks(bookmarks)
-                .build();
+        return userProfileService.getProfile(userId);
     }
     
     // Method for backward compatibility - returns the original Users object
@@ -195,6 +110,7 @@ public class UserService {
                 }
                 user.setPhotoUrl(fileUrl);
                 userRepository.save(user);
+                approvedRatingsCache.invalidate();
                 return "Photo uploaded successfully";
             } catch (Exception e) {
                 throw new IOException("Failed to upload user photo", e);
@@ -212,6 +128,7 @@ public class UserService {
                     cloudinaryService.deleteFile(user.getPhotoUrl());
                     user.setPhotoUrl(photo);
                     userRepository.save(user);
+                    approvedRatingsCache.invalidate();
                 }
                 analyzer.setProfileUrl(photo);
                 analyzerRepository.save(analyzer);
@@ -260,6 +177,7 @@ public class UserService {
             analyzer.setEmail(user.getTempEmail());
             analyzerRepository.save(analyzer);
         }
+        principalCache.evict(user.getEmail());
         user.setVerificationCode(null);
         user.setCodeExpiryAt(null);
         user.setEmail(user.getTempEmail());
@@ -276,6 +194,7 @@ public class UserService {
         user.setPhone(profileUpdateDto.getPhone());
         user.setProfessional(profileUpdateDto.getProfessional());
         userRepository.save(user);
+        approvedRatingsCache.invalidate();
         
         Optional<Analyzer> analyzerOpt = analyzerRepository.findByEmail(user.getEmail());
         if (analyzerOpt.isPresent()) {
@@ -296,6 +215,7 @@ public class UserService {
             users.setActive(true);
         }
         userRepository.save(users);
+        principalCache.evict(users.getEmail());
         return "User information updated successfully";
     }
 
@@ -323,6 +243,7 @@ public class UserService {
                 correspondingAnalyzer.setPassword(passwordEncoder.encode(newPassword));
                 analyzerRepository.save(correspondingAnalyzer);
             }
+            principalCache.evict(user.getEmail());
             
             return "User password changed successfully";
         } else if (analyzer != null) {
@@ -341,6 +262,7 @@ public class UserService {
                 correspondingUser.setPassword(passwordEncoder.encode(newPassword));
                 userRepository.save(correspondingUser);
             }
+            principalCache.evict(analyzer.getEmail());
             
             return "Analyzer password changed successfully";
         } else {
@@ -360,6 +282,7 @@ public class UserService {
             rating.setRated(true);
             rating.setStatus(RattingStatus.PENDING); // Reset approval status on update
             userRattingRepository.save(rating);
+            approvedRatingsCache.invalidate();
             return "Rating updated successfully";
         }
         
@@ -375,26 +298,37 @@ public class UserService {
         return "Rating submitted successfully";
     }
     
-    public List<UserRatingResponse> getAllPendingRatings() {
-        List<UserRatting> ratings = userRattingRepository.findAll();
-        // Get the filtered plan for each user individually
-        return ratings.stream()
-                .filter(u -> u.getStatus() == RattingStatus.PENDING)
-                .map(rating -> {
-                    // Get the filtered plan for each user individually
-                    String filteredPlan = planFilterServices.getPlanFiltered(rating.getUsers());
-                    return UserRatingResponse.builder()
-                            .id(rating.getId())
-                            .userId(rating.getUsers().getId())
-                            .userName(rating.getUsers().getName())
-                            .userPhoto(rating.getUsers().getPhotoUrl())
-                            .message(rating.getMessage())
-                            .starNumber(rating.getStarNumber())
-                            .status(rating.getStatus())
-                            .subscription(filteredPlan)
-                            .build();
-                })
-                .toList();
+    public PageResponse<UserRatingResponse> getPendingRatings(int page, int size) {
+        SubscriptionPlan[] plans = SubscriptionPlan.values();
+        return PageResponse.from(userRattingRepository.findModerationPage(RattingStatus.PENDING, Paging.of(page, size))
+                .map(rating -> UserRatingResponse.builder()
+                        .id(rating.id())
+                        .userId(rating.userId())
+                        .userName(rating.userName())
+                        .userPhoto(rating.userPhoto())
+                        .message(rating.message())
+                        .starNumber(rating.starNumber())
+                        .status(rating.status())
+                        .subscription(plans[rating.planRank()].name())
+                        .build()));
+    }
+
+    // Approves or rejects many pending ratings in one statement; ratings no longer pending are skipped
+    public int moderateRatings(Collection<Long> ratingIds, RattingStatus decision) {
+        if (decision != RattingStatus.APPROVED && decision != RattingStatus.REJECTED) {
+            throw new IllegalArgumentException("Decision must be APPROVED or REJECTED");
+        }
+        if (ratingIds == null || ratingIds.isEmpty()) {
+            throw new IllegalArgumentException("No rating ids given");
+        }
+        if (ratingIds.size() > Paging.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("At most " + Paging.MAX_PAGE_SIZE + " ratings can be moderated at once");
+        }
+        int updated = userRattingRepository.transitionStatus(ratingIds, RattingStatus.PENDING, decision);
+        if (updated > 0) {
+            approvedRatingsCache.invalidate();
+        }
+        return updated;
     }
     
     public String approveRating(Long ratingId) {
@@ -402,6 +336,7 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("Rating not found"));
         rating.setStatus(RattingStatus.APPROVED);
         userRattingRepository.save(rating);
+        approvedRatingsCache.invalidate();
         return "Rating approved successfully";
     }
     
@@ -410,11 +345,12 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("Rating not found"));
         rating.setStatus(RattingStatus.REJECTED);
         userRattingRepository.save(rating);
+        approvedRatingsCache.invalidate();
         return "Rating disapproved successfully";
     }
     
-    public List<UserRatting> getApprovedRatings() {
-        return userRattingRepository.findByStatus(RattingStatus.APPROVED);
+    public List<UserRatingResponse> getApprovedRatings() {
+        return approvedRatingsCache.getApproved();
     }
 
     public boolean hasUserRatedSystem(UUID userId) {
@@ -428,48 +364,12 @@ public class UserService {
 
     private void sendVerificationEmail(Users user) {
         String subject = "Account Verification";
-        String verificationCode = "VERIFICATION CODE " + user.getVerificationCode();
-        String htmlMessage = "<html>"
-                + "<head>"
-                + "<style>"
-                + "  body { font-family: 'Arial', sans-serif; background-color: #f7f7f7; margin: 0; padding: 0; }"
-                + "  .email-container { max-width: 600px; margin: 0 auto; background-color: #ffffff; border-radius: 8px; overflow: hidden; box-shadow: 0 4px 12px rgba(0, 0, 0, 0.1); }"
-                + "  .header { background-color: #131b5a; color: #ffffff; text-align: center; padding: 20px; }"
-                + "  .header h1 { margin: 0; font-size: 24px; font-weight: bold; }"
-                + "  .content { padding: 30px; text-align: center; }"
-                + "  .content h2 { color: #333333; font-size: 20px; margin-bottom: 20px; }"
-                + "  .verification-code { background-color: #f0f0f0; padding: 15px; border-radius: 6px; display: inline-block; margin: 20px 0; }"
-                + "  .verification-code p { margin: 0; font-size: 24px; font-weight: bold; color: #007bff; }"
-                + "  .footer { text-align: center; padding: 20px; font-size: 14px; color: #666666; background-color: #fbdfb8; }"
-                + "  .footer a { color: #007bff; text-decoration: none; }"
-                + "</style>"
-                + "</head>"
-                + "<body>"
-                + "<div class='email-container'>"
-                + "  <div class='header'>"
-                + "    <h1>ORIGIN GROUP VERIFICATION CODE </h1>"
-                + "  </div>"
-                + "  <div class='content'>"
-                + "    <h2>Please enter the verification code below to update email:</h2>"
-                + "    <div class='verification-code'>"
-                + "      <p>" + verificationCode + "</p>"
-                + "    </div>"
-                + "    <p>If you did not request this code, please ignore this email.</p>"
-                + "  </div>"
-                + "  <div class='footer'>"
-                + "    <p>Need help? <a href='mailto:origin@group.com'>Contact Support</a></p>"
-                + "    <p>&copy; 2025 Your Company. All rights reserved.</p>"
-                + "  </div>"
-                + "</div>"
-                + "</body>"
-                + "</html>";
-
-        try {
-            emailService.sendVerificationEmail(user.getTempEmail(), subject, htmlMessage);
-        } catch (MessagingException e) {
-            // Handle email sending exception
-            e.printStackTrace();
-        }
+        String htmlMessage = emailTemplateService.render(EmailTemplateService.VERIFICATION_CODE, "ORIGIN GROUP VERIFICATION CODE",
+                EmailTemplateService.model(
+                        "instruction", "Please enter the verification code below to update email:",
+                        "code", "VERIFICATION CODE " + user.getVerificationCode()));
+
+        emailService.queueEmail(user.getTempEmail(), subject, htmlMessage);
     }
 
     private String generateVerificationCode() {
@@ -479,91 +379,6 @@ public class UserService {
     }
 
 
-    @Scheduled(cron = "0 0 0 * * *")// Every midnight minutes
-    @Transactional
-    public void checkAndExpireSubscriptions() {
-        LocalDateTime now = LocalDateTime.now();
-        userRepository.findAll().forEach(user -> {
-            user.getSubscriptions().forEach(subscription -> {
-                if (subscription.getEndDate() != null && 
-                    subscription.getEndDate().isBefore(now) && 
-                    !subscription.getStatus().equals(SubscriptionStatus.EXPIRED)) {
-                    subscription.setStatus(SubscriptionStatus.EXPIRED);
-                    user.setSubscribed(false);
-                }
-            });
-            userRepository.save(user);
-        });
-    }
-
-
-    @Scheduled(cron = "0 0 8 * * ?") // Runs every day at 8:00 AM
-    @Transactional
-    public void sendSubscriptionExpirationReminders() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime warningTime = now.plusHours(24); // 24 hours from now
-        
-        List<Users> users = userRepository.findAll();
-        
-        users.forEach(user -> {
-            user.getSubscriptions().forEach(subscription -> {
-                if (subscription.getEndDate() != null && 
-                    subscription.getEndDate().isAfter(now) &&
-                    subscription.getEndDate().isBefore(warningTime) &&
-                    !subscription.getStatus().equals(SubscriptionStatus.EXPIRED)) {
-                    
-                    // Create HTML email content
-                    String subject = "Subscription Expiration Reminder";
-                    String htmlMessage = createReminderEmailContent(subscription);
-                    
-                    try {
-                        emailService.sendVerificationEmail(user.getEmail(), subject, htmlMessage);
-                    } catch (Exception e) {
-                        // Handle email sending error
-                        e.printStackTrace();
-                    }
-                }
-            });
-        });
-    }
-
-    private String createReminderEmailContent(UserSubscription subscription) {
-        return "<html>" +
-                "<head>" +
-                "<style>" +
-                "  body { font-family: Arial, sans-serif; background-color: #f7f7f7; margin: 0; padding: 0; }" +
-                "  .email-container { max-width: 600px; margin: 0 auto; background-color: #ffffff; border-radius: 8px; overflow: hidden; box-shadow: 0 4px 12px rgba(0, 0, 0, 0.1); }" +
-                "  .header { background-color: #131b5a; color: #ffffff; text-align: center; padding: 20px; }" +
-                "  .header h1 { margin: 0; font-size: 24px; font-weight: bold; }" +
-                "  .content { padding: 30px; text-align: center; }" +
-                "  .content h2 { color: #333333; font-size: 20px; margin-bottom: 20px; }" +
-                "  .details { background-color: #f0f0f0; padding: 15px; border-radius: 6px; display: inline-block; margin: 20px 0; }" +
-                "  .details p { margin: 0; font-size: 16px; }" +
-                "  .footer { text-align: center; padding: 20px; font-size: 14px; color: #666666; background-color: #fbdfb8; }" +
-                "</style>" +
-                "</head>" +
-                "<body>" +
-                "<div class='email-container'>" +
-                "  <div class='header'>" +
-                "    <h1>Subscription Reminder</h1>" +
-                "  </div>" +
-                "  <div class='content'>" +
-                "    <h2>Your subscription is about to expire</h2>" +
-                "    <div class='details'>" +
-                "      <p><strong>Plan:</strong> " + subscription.getPlan() + "</p>" +
-                "      <p><strong>Expiration Date:</strong> " + subscription.getEndDate() + "</p>" +
-                "    </div>" +
-                "    <p>Please renew your subscription to continue enjoying our services.</p>" +
-                "  </div>" +
-                "  <div class='footer'>" +
-                "    <p>Need help? <a href='mailto:support@orgroup.com'>Contact Support</a></p>" +
-                "    <p>&copy; 2025 ORGroup. All rights reserved.</p>" +
-                "  </div>" +
-                "</div>" +
-                "</body>" +
-                "</html>";
-    }
-
     public void updateClientNationalId(UUID clientId, String nationalId) {
         Users user = userRepository.findById(clientId)
                 .orElseThrow(() -> new RuntimeException("Client with id " + clientId + " not found"));
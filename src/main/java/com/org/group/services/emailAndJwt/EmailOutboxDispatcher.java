@@ -0,0 +1,219 @@
+package com.org.group.services.emailAndJwt;
+
+import com.org.group.model.EmailOutbox;
+import com.org.group.model.EmailStatus;
+import com.org.group.repository.EmailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Drains the email outbox: claims due rows, sends them on a small pool of SMTP workers
+// (each worker pushes its chunk through one transport connection) and reschedules failures with backoff.
+@Slf4j
+@Service
+public class EmailOutboxDispatcher {
+
+    private static final Duration STALE_CLAIM = Duration.ofMinutes(10);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final List<EmailStatus> FINISHED = List.of(EmailStatus.SENT, EmailStatus.FAILED);
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final JavaMailSender emailSender;
+    private final ExecutorService senderPool;
+    private final int senders;
+    private final int ratePerMinute;
+    private final int maxAttempts;
+    private final long backoffSeconds;
+    private final int retentionDays;
+
+    private final AtomicBoolean batchInFlight = new AtomicBoolean();
+    private long windowStart = System.currentTimeMillis();
+    private int sentInWindow;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 EmailService emailService,
+                                 JavaMailSender emailSender,
+                                 @Value("${email.outbox.senders:2}") int senders,
+                                 @Value("${email.outbox.rate-per-minute:60}") int ratePerMinute,
+                                 @Value("${email.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${email.outbox.backoff-seconds:30}") long backoffSeconds,
+                                 @Value("${email.outbox.retention-days:30}") int retentionDays) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.emailSender = emailSender;
+        this.senders = senders;
+        this.ratePerMinute = ratePerMinute;
+        this.maxAttempts = maxAttempts;
+        this.backoffSeconds = backoffSeconds;
+        this.retentionDays = retentionDays;
+        this.senderPool = Executors.newFixedThreadPool(senders);
+    }
+
+    // Claims a batch and hands it to the sender pool without waiting, so a slow SMTP round trip never holds
+    // the shared scheduler thread; polls that arrive while a batch is still sending are skipped.
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        if (!batchInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (startBatch()) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not start an email batch", e);
+        }
+        batchInFlight.set(false);
+    }
+
+    // Returns true when a batch was handed to the sender pool, which clears batchInFlight once it is saved
+    private boolean startBatch() {
+        long now = System.currentTimeMillis();
+        if (now - windowStart >= 60_000) {
+            windowStart = now;
+            sentInWindow = 0;
+        }
+        int budget = ratePerMinute - sentInWindow;
+        if (budget <= 0) {
+            return false;
+        }
+
+        LocalDateTime time = LocalDateTime.now();
+        emailOutboxRepository.releaseStale(time.minus(STALE_CLAIM), EmailStatus.SENDING, EmailStatus.PENDING);
+
+        List<UUID> due = emailOutboxRepository.findDueIds(EmailStatus.PENDING, time, PageRequest.of(0, budget));
+        if (due.isEmpty()) {
+            return false;
+        }
+        UUID token = UUID.randomUUID();
+        emailOutboxRepository.claim(due, token, time, EmailStatus.PENDING, EmailStatus.SENDING);
+        List<EmailOutbox> claimed = emailOutboxRepository.findByClaimToken(token);
+        sentInWindow += claimed.size();
+
+        if (claimed.isEmpty()) {
+            return false;
+        }
+
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        int chunkSize = Math.max(1, (claimed.size() + senders - 1) / senders);
+        for (int i = 0; i < claimed.size(); i += chunkSize) {
+            List<EmailOutbox> chunk = claimed.subList(i, Math.min(i + chunkSize, claimed.size()));
+            running.add(CompletableFuture.runAsync(() -> deliver(chunk), senderPool)
+                    .exceptionally(e -> {
+                        log.error("Email sender worker failed", e);
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(running.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, e) -> {
+                    try {
+                        emailOutboxRepository.saveAll(claimed);
+                    } catch (RuntimeException saveFailure) {
+                        // rows stay SENDING and are released as stale, then retried
+                        log.error("Could not record the outcome of an email batch", saveFailure);
+                    } finally {
+                        batchInFlight.set(false);
+                    }
+                });
+        return true;
+    }
+
+    private void deliver(List<EmailOutbox> chunk) {
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox email : chunk) {
+            try {
+                messages.put(emailService.buildMessage(email.getRecipient(), email.getSubject(), email.getBody()), email);
+            } catch (MessagingException e) {
+                markFailed(email, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            // a single send call reuses one SMTP connection for the whole chunk
+            emailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                messages.values().forEach(email -> markFailed(email, e));
+                return;
+            }
+        } catch (MailException e) {
+            messages.values().forEach(email -> markFailed(email, e));
+            return;
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure != null) {
+                markFailed(entry.getValue(), failure);
+            } else {
+                EmailOutbox email = entry.getValue();
+                email.setStatus(EmailStatus.SENT);
+                email.setBody(null);
+                email.setSentAt(sentAt);
+                email.setClaimToken(null);
+                email.setLastError(null);
+            }
+        }
+    }
+
+    private void markFailed(EmailOutbox email, Exception e) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setClaimToken(null);
+        String error = String.valueOf(e.getMessage());
+        email.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+        if (attempts >= maxAttempts) {
+            email.setStatus(EmailStatus.FAILED);
+            email.setBody(null);
+            log.error("Giving up on email {} to {} after {} attempts", email.getId(), email.getRecipient(), attempts);
+            return;
+        }
+        // exponential backoff: base, 2x base, 4x base ... capped at one hour
+        Duration delay = Duration.ofSeconds(backoffSeconds).multipliedBy(1L << Math.min(attempts - 1, 20));
+        email.setStatus(EmailStatus.PENDING);
+        email.setNextAttemptAt(LocalDateTime.now().plus(delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay));
+        log.warn("Email {} to {} failed (attempt {}), retrying later: {}", email.getId(), email.getRecipient(), attempts, error);
+    }
+
+    // Finished rows are only kept for troubleshooting; drop them after the retention period
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeFinished() {
+        int cleared = emailOutboxRepository.clearFinishedBodies(FINISHED);
+        int deleted = emailOutboxRepository.deleteFinishedBefore(FINISHED, LocalDateTime.now().minusDays(retentionDays));
+        if (cleared > 0 || deleted > 0) {
+            log.info("Email outbox retention: cleared {} body(ies), deleted {} row(s)", cleared, deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senderPool.shutdown();
+    }
+}
@@ -1,5 +1,8 @@
 package com.org.group.services.emailAndJwt;
 
+import com.org.group.model.EmailOutbox;
+import com.org.group.model.EmailStatus;
+import com.org.group.repository.EmailOutboxRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,19 +10,35 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
 public class EmailService {
     @Autowired
     private JavaMailSender emailSender;
 
-    public void sendVerificationEmail(String to, String subject, String text) throws MessagingException {
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    // Stores the message in the outbox; EmailOutboxDispatcher delivers it in the background
+    public void queueEmail(String to, String subject, String html) {
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(html)
+                .status(EmailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    public MimeMessage buildMessage(String to, String subject, String text) throws MessagingException {
         MimeMessage message = emailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true);
 
         helper.setTo(to);
         helper.setSubject(subject);
         helper.setText(text, true);
-
-        emailSender.send(message);
+        return message;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,179 @@
+package com.org.group.services.emailAndJwt;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Email templates under templates/email are parsed once at startup into node lists.
+// Every body is rendered inside layout.html, which holds the shared header, footer and CSS.
+// Syntax: {{name}} escaped value, {{{name}}} raw value, {{#name}}..{{/name}} shown when the value
+// is present/true, {{^name}}..{{/name}} shown when it is absent/false.
+@Service
+public class EmailTemplateService {
+
+    public static final String VERIFICATION_CODE = "verification-code";
+    public static final String SUBSCRIPTION_REMINDER = "subscription-reminder";
+    public static final String ANALYZER_WELCOME = "analyzer-welcome";
+    public static final String JOIN_REQUEST = "join-request";
+    public static final String JOIN_RESPONSE = "join-response";
+
+    private static final String LAYOUT = "layout";
+    private static final String CONTENT_SLOT = "content";
+    private static final List<String> TEMPLATES = List.of(
+            LAYOUT, VERIFICATION_CODE, SUBSCRIPTION_REMINDER, ANALYZER_WELCOME, JOIN_REQUEST, JOIN_RESPONSE);
+
+    private sealed interface Node permits Text, Value, Section {}
+    private record Text(String text) implements Node {}
+    private record Value(String name, boolean raw) implements Node {}
+    private record Section(String name, boolean inverted, List<Node> children) implements Node {}
+
+    private final Map<String, List<Node>> compiled = new HashMap<>();
+
+    // each sender thread keeps its own buffer so bulk sends don't reallocate per message
+    private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(() -> new StringBuilder(8192));
+
+    @PostConstruct
+    void loadTemplates() {
+        for (String name : TEMPLATES) {
+            ClassPathResource resource = new ClassPathResource("templates/email/" + name + ".html");
+            try (InputStream in = resource.getInputStream()) {
+                compiled.put(name, compile(new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                throw new IllegalStateException("Email template " + name + " could not be loaded", e);
+            }
+        }
+    }
+
+    public String render(String template, String title, Map<String, ?> model) {
+        List<Node> body = compiled.get(template);
+        if (body == null) {
+            throw new IllegalArgumentException("Unknown email template: " + template);
+        }
+        Map<String, Object> values = new HashMap<>(model);
+        values.put("title", title);
+
+        StringBuilder out = buffer.get();
+        out.setLength(0);
+        write(compiled.get(LAYOUT), values, body, out);
+        return out.toString();
+    }
+
+    // Builds a model from name/value pairs; unlike Map.of it accepts null values
+    public static Map<String, Object> model(Object... pairs) {
+        Map<String, Object> model = new HashMap<>();
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            model.put((String) pairs[i], pairs[i + 1]);
+        }
+        return model;
+    }
+
+    private void write(List<Node> nodes, Map<String, Object> values, List<Node> body, StringBuilder out) {
+        for (Node node : nodes) {
+            if (node instanceof Text text) {
+                out.append(text.text());
+            } else if (node instanceof Value value) {
+                if (body != null && value.raw() && CONTENT_SLOT.equals(value.name())) {
+                    write(body, values, null, out);
+                    continue;
+                }
+                Object v = values.get(value.name());
+                if (v != null) {
+                    if (value.raw()) {
+                        out.append(v);
+                    } else {
+                        escape(String.valueOf(v), out);
+                    }
+                }
+            } else if (node instanceof Section section) {
+                if (isPresent(values.get(section.name())) != section.inverted()) {
+                    write(section.children(), values, body, out);
+                }
+            }
+        }
+    }
+
+    private static boolean isPresent(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean b) {
+            return b;
+        }
+        return !String.valueOf(value).isBlank();
+    }
+
+    private static void escape(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private static List<Node> compile(String source) {
+        List<List<Node>> stack = new ArrayList<>();
+        List<String> open = new ArrayList<>();
+        List<Boolean> inverted = new ArrayList<>();
+        List<Node> current = new ArrayList<>();
+        int pos = 0;
+        while (pos < source.length()) {
+            int start = source.indexOf("{{", pos);
+            if (start < 0) {
+                current.add(new Text(source.substring(pos)));
+                break;
+            }
+            if (start > pos) {
+                current.add(new Text(source.substring(pos, start)));
+            }
+            boolean raw = source.startsWith("{{{", start);
+            int end = source.indexOf(raw ? "}}}" : "}}", start);
+            if (end < 0) {
+                throw new IllegalStateException("Unclosed tag at " + start);
+            }
+            String tag = source.substring(start + (raw ? 3 : 2), end).trim();
+            pos = end + (raw ? 3 : 2);
+            // section markers sit on their own line; drop that line break so output stays tidy
+            char kind = raw ? ' ' : tag.charAt(0);
+            if ((kind == '#' || kind == '^' || kind == '/') && source.startsWith("\n", pos)) {
+                pos++;
+            }
+
+            if (kind == '#' || kind == '^') {
+                stack.add(current);
+                open.add(tag.substring(1).trim());
+                inverted.add(kind == '^');
+                current = new ArrayList<>();
+            } else if (kind == '/') {
+                String name = tag.substring(1).trim();
+                int top = open.size() - 1;
+                if (top < 0 || !open.get(top).equals(name)) {
+                    throw new IllegalStateException("Unexpected closing tag " + name);
+                }
+                Section section = new Section(name, inverted.remove(top), List.copyOf(current));
+                open.remove(top);
+                current = stack.remove(top);
+                current.add(section);
+            } else {
+                current.add(new Value(tag, raw));
+            }
+        }
+        if (!open.isEmpty()) {
+            throw new IllegalStateException("Unclosed section " + open.get(open.size() - 1));
+        }
+        return List.copyOf(current);
+    }
+}
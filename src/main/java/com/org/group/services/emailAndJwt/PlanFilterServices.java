@@ -1,36 +1,109 @@
 package com.org.group.services.emailAndJwt;
 
+import com.org.group.dto.UserPlanRow;
 import com.org.group.model.Users;
+import com.org.group.repository.UserSubscriptionRepository;
+import com.org.group.services.CacheGeneration;
+import com.org.group.subscription.SubscriptionPlan;
 import com.org.group.subscription.SubscriptionStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Resolves a user's highest non-expired plan (see SubscriptionPlan ordering) and memoizes it per user.
+// Entries are dropped whenever a subscription row is written (SubscriptionPlanListener, expiry job),
+// so list endpoints resolve plans from memory or with one IN query instead of walking every subscription.
+// Entries also expire after a short TTL, which bounds staleness from writes made by other nodes or in SQL.
 @Service
 public class PlanFilterServices {
+
+    private record CachedPlan(SubscriptionPlan plan, long expiresAt) {}
+
+    private final UserSubscriptionRepository userSubscriptionRepository;
+    private final long ttlMillis;
+    private final Map<UUID, CachedPlan> plans = new ConcurrentHashMap<>();
+    private final CacheGeneration generation = new CacheGeneration();
+
+    public PlanFilterServices(UserSubscriptionRepository userSubscriptionRepository,
+                              @Value("${subscription.plan-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userSubscriptionRepository = userSubscriptionRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
     public String getPlanFiltered(Users user){
-        return user.getSubscriptions().stream()
-                .filter(sub -> !sub.getStatus().equals(SubscriptionStatus.EXPIRED)) // Filter out expired subscriptions
-                .map(sub -> sub.getPlan().toString())
-                .max((plan1, plan2) -> {
-                    // Define the priority order
-                    int priority1 = getPlanPriority(plan1);
-                    int priority2 = getPlanPriority(plan2);
-                    return Integer.compare(priority1, priority2);
+        return getEffectivePlan(user.getId()).name();
+    }
+
+    public SubscriptionPlan getEffectivePlan(UUID userId) {
+        SubscriptionPlan plan = cached(userId, System.currentTimeMillis());
+        if (plan != null) {
+            return plan;
+        }
+        return getEffectivePlans(List.of(userId)).get(userId);
+    }
+
+    // Batch lookup for list endpoints; every requested id is present in the result, FREE when nothing is active
+    public Map<UUID, SubscriptionPlan> getEffectivePlans(Collection<UUID> userIds) {
+        Map<UUID, SubscriptionPlan> result = new HashMap<>();
+        long now = System.currentTimeMillis();
+        List<UUID> missing = userIds.stream()
+                .distinct()
+                .filter(id -> {
+                    SubscriptionPlan cached = cached(id, now);
+                    if (cached != null) {
+                        result.put(id, cached);
+                        return false;
+                    }
+                    return true;
                 })
-                .orElse("FREE"); // Default to FREE if no active subscriptions
+                .toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
 
+        long loadedAt = generation.current();
+        Map<UUID, SubscriptionPlan> loaded = new HashMap<>();
+        missing.forEach(id -> loaded.put(id, SubscriptionPlan.FREE)); // Default to FREE if no active subscriptions
+        for (UserPlanRow row : userSubscriptionRepository.findLivePlans(missing, SubscriptionStatus.EXPIRED)) {
+            loaded.merge(row.userId(), row.plan(), (a, b) -> a.ordinal() >= b.ordinal() ? a : b);
+        }
+        if (ttlMillis > 0) {
+            long expiresAt = System.currentTimeMillis() + ttlMillis;
+            generation.storeIfCurrent(loadedAt,
+                    () -> loaded.forEach((id, plan) -> plans.put(id, new CachedPlan(plan, expiresAt))));
+        }
+        result.putAll(loaded);
+        return result;
     }
 
+    public boolean hasAtLeast(UUID userId, SubscriptionPlan required) {
+        return getEffectivePlan(userId).ordinal() >= required.ordinal();
+    }
 
+    public void evict(UUID userId) {
+        generation.invalidate(() -> plans.remove(userId));
+    }
 
-    private int getPlanPriority(String plan) {
-        switch (plan) {
-            case "IMENA": return 4;
-            case "PREMIUM": return 3;
-            case "BASIC": return 2;
-            case "FREE": return 1;
-            default: return 0;
-        }
+    public void evictAll() {
+        generation.bump(plans::clear);
     }
 
+    // Drops entries of users who have not been looked up since their plan expired
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        plans.values().removeIf(cached -> cached.expiresAt() < now);
+    }
 
+    private SubscriptionPlan cached(UUID userId, long now) {
+        CachedPlan cached = plans.get(userId);
+        return cached == null || cached.expiresAt() < now ? null : cached.plan();
+    }
 }
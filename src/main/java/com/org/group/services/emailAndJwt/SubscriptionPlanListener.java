@@ -0,0 +1,30 @@
+package com.org.group.services.emailAndJwt;
+
+import com.org.group.model.UserSubscription;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// Entity listener on UserSubscription; Hibernate obtains it from the Spring context.
+// Bulk JPQL updates bypass it, so bulk writers must evict PlanFilterServices themselves.
+@Component
+public class SubscriptionPlanListener {
+
+    // looked up lazily: the listener is created while the EntityManagerFactory is still being built
+    private final ObjectProvider<PlanFilterServices> planFilterServices;
+
+    public SubscriptionPlanListener(ObjectProvider<PlanFilterServices> planFilterServices) {
+        this.planFilterServices = planFilterServices;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void subscriptionChanged(UserSubscription subscription) {
+        if (subscription.getUser() != null && subscription.getUser().getId() != null) {
+            planFilterServices.getObject().evict(subscription.getUser().getId());
+        }
+    }
+}
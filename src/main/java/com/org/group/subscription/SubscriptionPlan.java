@@ -1,10 +1,13 @@
 package com.org.group.subscription;
 
+// Declared from lowest to highest tier: ordinal() is the plan priority.
+// Stored as STRING, so reordering needs no data migration, but UserRepository.EFFECTIVE_PLAN_RANK
+// hard-codes each plan's ordinal and callers index values() with its result: update the two together.
 public enum SubscriptionPlan {
 
+    FREE,
     BASIC,
-    IMENA,
     PREMIUM,
-    FREE
+    IMENA
 
 }
@@ -0,0 +1,35 @@
+package com.org.group.repository;
+
+import com.org.group.subscription.SubscriptionPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserRepositoryTest {
+
+    private static final Pattern RANK = Pattern.compile("SubscriptionPlan\\.(\\w+) then (\\d+)");
+
+    @Test
+    void effectivePlanRank_MatchesSubscriptionPlanOrdinals() {
+        Map<String, Integer> ranks = new HashMap<>();
+        Matcher matcher = RANK.matcher(UserRepository.EFFECTIVE_PLAN_RANK);
+        while (matcher.find()) {
+            ranks.put(matcher.group(1), Integer.parseInt(matcher.group(2)));
+        }
+
+        // FREE is the fallback (else 0 / coalesce 0), every other plan needs its own branch
+        assertEquals(0, SubscriptionPlan.FREE.ordinal());
+        assertTrue(UserRepository.EFFECTIVE_PLAN_RANK.contains("else 0 end"));
+        for (SubscriptionPlan plan : SubscriptionPlan.values()) {
+            if (plan != SubscriptionPlan.FREE) {
+                assertEquals(plan.ordinal(), ranks.get(plan.name()), "rank of " + plan);
+            }
+        }
+        assertEquals(SubscriptionPlan.values().length - 1, ranks.size());
+    }
+}
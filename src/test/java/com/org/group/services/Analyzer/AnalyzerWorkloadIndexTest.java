@@ -0,0 +1,60 @@
+package com.org.group.services.Analyzer;
+
+import com.org.group.dto.LaunchProject.AnalyticStatus;
+import com.org.group.dto.admin.AnalyzerLoadRow;
+import com.org.group.repository.AnalyzerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyzerWorkloadIndexTest {
+
+    @Mock
+    private AnalyzerRepository analyzerRepository;
+
+    @InjectMocks
+    private AnalyzerWorkloadIndex workloadIndex;
+
+    @Test
+    void pick_PrefersLeastLoadedExpertThenFallsBackToOthers() {
+        UUID busyExpert = UUID.randomUUID();
+        UUID idleExpert = UUID.randomUUID();
+        UUID generalist = UUID.randomUUID();
+        when(analyzerRepository.findEnabledLoads(AnalyticStatus.PENDING)).thenReturn(List.of(
+                new AnalyzerLoadRow(busyExpert, "Agriculture", 4),
+                new AnalyzerLoadRow(idleExpert, "Tech, agriculture", 1),
+                new AnalyzerLoadRow(generalist, "Finance", 0)));
+
+        assertEquals(List.of(idleExpert, busyExpert, generalist), workloadIndex.pick(" AGRICULTURE ", 3, Set.of()));
+        assertEquals(List.of(busyExpert), workloadIndex.pick("agriculture", 1, Set.of(idleExpert)));
+        verify(analyzerRepository, times(1)).findEnabledLoads(AnalyticStatus.PENDING);
+    }
+
+    @Test
+    void assignmentAdded_ReordersQueueUntilInvalidated() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(analyzerRepository.findEnabledLoads(AnalyticStatus.PENDING))
+                .thenReturn(List.of(new AnalyzerLoadRow(first, "Tech", 0), new AnalyzerLoadRow(second, "Tech", 1)));
+
+        assertEquals(List.of(first), workloadIndex.pick("tech", 1, Set.of()));
+        workloadIndex.assignmentAdded(first);
+        workloadIndex.assignmentAdded(first);
+        assertEquals(List.of(second), workloadIndex.pick("tech", 1, Set.of()));
+
+        workloadIndex.invalidate();
+
+        assertEquals(List.of(first), workloadIndex.pick("tech", 1, Set.of()));
+        verify(analyzerRepository, times(2)).findEnabledLoads(AnalyticStatus.PENDING);
+    }
+}
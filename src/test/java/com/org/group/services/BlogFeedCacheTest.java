@@ -0,0 +1,92 @@
+package com.org.group.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.group.model.Blog;
+import com.org.group.model.BlogStatus;
+import com.org.group.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogFeedCacheTest {
+
+    @Mock
+    private BlogRepository blogRepository;
+
+    private BlogFeedCache blogFeedCache;
+
+    @BeforeEach
+    void setUp() {
+        blogFeedCache = new BlogFeedCache(blogRepository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void getPublishedFeed_ServesCachedBytesUntilInvalidated() {
+        when(blogRepository.findPublishedBlogsOrderByPublishedDate(BlogStatus.PUBLISHED))
+                .thenReturn(List.of(blog("First", LocalDateTime.now().minusDays(1))))
+                .thenReturn(List.of(blog("Second", LocalDateTime.now().minusDays(1))));
+
+        BlogFeedCache.Entry first = blogFeedCache.getPublishedFeed();
+        assertSame(first, blogFeedCache.getPublishedFeed());
+        verify(blogRepository, times(1)).findPublishedBlogsOrderByPublishedDate(BlogStatus.PUBLISHED);
+
+        blogFeedCache.invalidate();
+        BlogFeedCache.Entry second = blogFeedCache.getPublishedFeed();
+
+        assertNotEquals(first.etag(), second.etag());
+        assertTrue(new String(second.body()).contains("Second"));
+        verify(blogRepository, times(2)).findPublishedBlogsOrderByPublishedDate(BlogStatus.PUBLISHED);
+    }
+
+    @Test
+    void getPublishedFeed_LastModifiedMovesForwardWhenNewestPostIsRemoved() {
+        // the newest post carries a timestamp ahead of this node's clock, so only the previous feed bounds the next one
+        Blog older = blog("Older", LocalDateTime.now().minusDays(2));
+        Blog newest = blog("Newest", LocalDateTime.now().plusHours(1));
+        when(blogRepository.findPublishedBlogsOrderByPublishedDate(BlogStatus.PUBLISHED))
+                .thenReturn(List.of(newest, older))
+                .thenReturn(List.of(older));
+
+        long before = blogFeedCache.getPublishedFeed().lastModified();
+        blogFeedCache.invalidate();
+        long after = blogFeedCache.getPublishedFeed().lastModified();
+
+        assertTrue(after >= before + 1000, "Last-Modified went from " + before + " to " + after);
+    }
+
+    @Test
+    void getBlog_CachesEntryAndFlagsDrafts() {
+        Blog draft = blog("Draft", LocalDateTime.now());
+        draft.setStatus(BlogStatus.DRAFT);
+        when(blogRepository.findById(draft.getId())).thenReturn(Optional.of(draft));
+
+        BlogFeedCache.Entry entry = blogFeedCache.getBlog(draft.getId());
+
+        assertFalse(entry.published());
+        assertSame(entry, blogFeedCache.getBlog(draft.getId()));
+        verify(blogRepository, times(1)).findById(draft.getId());
+    }
+
+    private static Blog blog(String title, LocalDateTime updatedAt) {
+        return Blog.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description(title + " description")
+                .status(BlogStatus.PUBLISHED)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .publishedAt(updatedAt)
+                .build();
+    }
+}
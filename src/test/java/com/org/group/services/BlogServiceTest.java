@@ -31,6 +31,9 @@ class BlogServiceTest {
     @Mock
     private CloudinaryService cloudinaryService;
 
+    @Mock
+    private BlogFeedCache blogFeedCache;
+
     @InjectMocks
     private BlogService blogService;
 
@@ -78,6 +81,7 @@ class BlogServiceTest {
         assertEquals(testBlog.getStatus(), result.getStatus());
         verify(blogRepository).existsByTitle(createBlogDto.getTitle());
         verify(blogRepository).save(any(Blog.class));
+        verify(blogFeedCache).invalidate();
     }
 
     @Test
@@ -89,6 +93,7 @@ class BlogServiceTest {
         assertThrows(IllegalArgumentException.class, () -> blogService.createBlog(createBlogDto));
         verify(blogRepository).existsByTitle(createBlogDto.getTitle());
         verify(blogRepository, never()).save(any(Blog.class));
+        verify(blogFeedCache, never()).invalidate();
     }
 
     @Test
@@ -0,0 +1,62 @@
+package com.org.group.services.LaunchProject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectCounterServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ProjectCounterService projectCounterService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WritesAccumulatedDeltasInOneBatch() {
+        UUID projectId = UUID.randomUUID();
+        projectCounterService.increment(projectId, ProjectCounterService.Counter.VIEWS);
+        projectCounterService.increment(projectId, ProjectCounterService.Counter.VIEWS);
+        projectCounterService.increment(projectId, ProjectCounterService.Counter.INTERACTION);
+
+        projectCounterService.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertEquals(1, batch.getValue().size());
+        assertArrayEquals(new Object[]{2L, 1L, 0L, projectId}, batch.getValue().get(0));
+        assertEquals(0, projectCounterService.pending(projectId, ProjectCounterService.Counter.VIEWS));
+    }
+
+    @Test
+    void flush_SkipsDatabaseWhenNothingChanged() {
+        projectCounterService.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void flush_KeepsDeltasWhenUpdateFails() {
+        UUID projectId = UUID.randomUUID();
+        projectCounterService.increment(projectId, ProjectCounterService.Counter.VIEWS);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+
+        projectCounterService.flush();
+
+        assertEquals(1, projectCounterService.pending(projectId, ProjectCounterService.Counter.VIEWS));
+    }
+}
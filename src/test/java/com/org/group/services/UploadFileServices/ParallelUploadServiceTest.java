@@ -0,0 +1,53 @@
+package com.org.group.services.UploadFileServices;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelUploadServiceTest {
+
+    @Mock
+    private CloudinaryService cloudinaryService;
+
+    @InjectMocks
+    private ParallelUploadService parallelUploadService;
+
+    private final MockMultipartFile file = new MockMultipartFile("file", "a.pdf", "application/pdf", new byte[]{1, 2, 3});
+
+    @Test
+    void uploadAll_ReturnsUrlPerLabelAndSkipsMissingFiles() throws IOException {
+        Map<String, ParallelUploadService.UploadJob> jobs = new LinkedHashMap<>();
+        jobs.put("plan", new ParallelUploadService.UploadJob(file, f -> "https://cdn/plan.pdf"));
+        jobs.put("video", new ParallelUploadService.UploadJob(null, f -> fail("should not upload a missing file")));
+
+        Map<String, String> urls = parallelUploadService.uploadAll(jobs);
+
+        assertEquals(Map.of("plan", "https://cdn/plan.pdf"), urls);
+        verifyNoInteractions(cloudinaryService);
+    }
+
+    @Test
+    void uploadAll_DeletesCompletedUploadsWhenOneFails() {
+        Map<String, ParallelUploadService.UploadJob> jobs = new LinkedHashMap<>();
+        jobs.put("plan", new ParallelUploadService.UploadJob(file, f -> "https://cdn/plan.pdf"));
+        jobs.put("photo", new ParallelUploadService.UploadJob(file, f -> {
+            throw new IOException("network");
+        }));
+
+        IOException exception = assertThrows(IOException.class, () -> parallelUploadService.uploadAll(jobs));
+
+        assertEquals("Failed to upload photo", exception.getMessage());
+        verify(cloudinaryService).deleteFile("https://cdn/plan.pdf");
+    }
+}
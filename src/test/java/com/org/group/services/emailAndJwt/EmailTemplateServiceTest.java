@@ -0,0 +1,51 @@
+package com.org.group.services.emailAndJwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateServiceTest {
+
+    private EmailTemplateService emailTemplateService;
+
+    @BeforeEach
+    void setUp() {
+        emailTemplateService = new EmailTemplateService();
+        emailTemplateService.loadTemplates();
+    }
+
+    @Test
+    void render_WrapsBodyInSharedLayout() {
+        String html = emailTemplateService.render(EmailTemplateService.VERIFICATION_CODE, "Password Reset Request",
+                EmailTemplateService.model("instruction", "Enter the code", "code", "123456"));
+
+        assertTrue(html.startsWith("<html>"));
+        assertTrue(html.contains("<h1>Password Reset Request</h1>"));
+        assertTrue(html.contains("<p>123456</p>"));
+        assertTrue(html.contains("Contact Support"));
+        assertFalse(html.contains("{{"));
+    }
+
+    @Test
+    void render_EscapesValues() {
+        String html = emailTemplateService.render(EmailTemplateService.ANALYZER_WELCOME, "Welcome",
+                EmailTemplateService.model("name", "<script>", "email", "a&b@c.d"));
+
+        assertTrue(html.contains("Dear &lt;script&gt;,"));
+        assertTrue(html.contains("a&amp;b@c.d"));
+    }
+
+    @Test
+    void render_PicksSectionsFromFlags() {
+        String accepted = emailTemplateService.render(EmailTemplateService.JOIN_RESPONSE, "Join Request Accepted!",
+                EmailTemplateService.model("name", "Ann", "accepted", true, "reason", null));
+        String declined = emailTemplateService.render(EmailTemplateService.JOIN_RESPONSE, "Join Request Update",
+                EmailTemplateService.model("name", "Ann", "accepted", false, "reason", "Team is full"));
+
+        assertTrue(accepted.contains("ACCEPTED") && accepted.contains("View My Projects"));
+        assertFalse(accepted.contains("DECLINED") || accepted.contains("Comment:"));
+        assertTrue(declined.contains("DECLINED") && declined.contains("Explore More Projects"));
+        assertTrue(declined.contains("<strong>Comment:</strong> Team is full"));
+    }
+}
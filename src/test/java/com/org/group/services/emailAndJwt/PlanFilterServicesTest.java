@@ -0,0 +1,78 @@
+package com.org.group.services.emailAndJwt;
+
+import com.org.group.dto.UserPlanRow;
+import com.org.group.repository.UserSubscriptionRepository;
+import com.org.group.subscription.SubscriptionPlan;
+import com.org.group.subscription.SubscriptionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlanFilterServicesTest {
+
+    @Mock
+    private UserSubscriptionRepository userSubscriptionRepository;
+
+    private PlanFilterServices planFilterServices;
+
+    @BeforeEach
+    void setUp() {
+        planFilterServices = new PlanFilterServices(userSubscriptionRepository, 60);
+    }
+
+    @Test
+    void getEffectivePlans_PicksHighestPlanAndDefaultsToFree() {
+        UUID premiumUser = UUID.randomUUID();
+        UUID freeUser = UUID.randomUUID();
+        when(userSubscriptionRepository.findLivePlans(anyCollection(), eq(SubscriptionStatus.EXPIRED))).thenReturn(List.of(
+                new UserPlanRow(premiumUser, SubscriptionPlan.BASIC),
+                new UserPlanRow(premiumUser, SubscriptionPlan.PREMIUM),
+                new UserPlanRow(premiumUser, SubscriptionPlan.FREE)));
+
+        Map<UUID, SubscriptionPlan> plans = planFilterServices.getEffectivePlans(List.of(premiumUser, freeUser));
+
+        assertEquals(SubscriptionPlan.PREMIUM, plans.get(premiumUser));
+        assertEquals(SubscriptionPlan.FREE, plans.get(freeUser));
+    }
+
+    @Test
+    void getEffectivePlan_ServesFromCacheUntilEvicted() {
+        UUID userId = UUID.randomUUID();
+        when(userSubscriptionRepository.findLivePlans(anyCollection(), eq(SubscriptionStatus.EXPIRED)))
+                .thenReturn(List.of(new UserPlanRow(userId, SubscriptionPlan.BASIC)))
+                .thenReturn(List.of(new UserPlanRow(userId, SubscriptionPlan.IMENA)));
+
+        assertEquals(SubscriptionPlan.BASIC, planFilterServices.getEffectivePlan(userId));
+        assertEquals(SubscriptionPlan.BASIC, planFilterServices.getEffectivePlan(userId));
+        verify(userSubscriptionRepository, times(1)).findLivePlans(anyCollection(), eq(SubscriptionStatus.EXPIRED));
+
+        planFilterServices.evict(userId);
+
+        assertEquals(SubscriptionPlan.IMENA, planFilterServices.getEffectivePlan(userId));
+        assertTrue(planFilterServices.hasAtLeast(userId, SubscriptionPlan.PREMIUM));
+    }
+
+    @Test
+    void getEffectivePlan_NotCachedWhenTtlIsZero() {
+        UUID userId = UUID.randomUUID();
+        PlanFilterServices uncached = new PlanFilterServices(userSubscriptionRepository, 0);
+        when(userSubscriptionRepository.findLivePlans(anyCollection(), eq(SubscriptionStatus.EXPIRED)))
+                .thenReturn(List.of(new UserPlanRow(userId, SubscriptionPlan.BASIC)))
+                .thenReturn(List.of(new UserPlanRow(userId, SubscriptionPlan.PREMIUM)));
+
+        assertEquals(SubscriptionPlan.BASIC, uncached.getEffectivePlan(userId));
+        assertEquals(SubscriptionPlan.PREMIUM, uncached.getEffectivePlan(userId));
+    }
+}